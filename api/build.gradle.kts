@@ -1,3 +1,4 @@
+import com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar
 import com.github.retrooper.compression.strategy.JsonArrayCompressionStrategy
 import com.github.retrooper.compression.strategy.JsonObjectCompressionStrategy
 import com.github.retrooper.compression.strategy.JsonToNbtStrategy
@@ -19,6 +20,12 @@ java {
     withJavadocJar()
 }
 
+// Classes using Java 17 APIs, packed into META-INF/versions/17 and only loaded by Java 17+ through multi-release jars
+val java17: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java17"))
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
 dependencies {
     compileOnlyApi(libs.bundles.adventure)
     compileOnlyApi(libs.bundles.adventure.serializers)
@@ -123,12 +130,33 @@ tasks {
 
     sourcesJar {
         mustRunAfter(generateVersionsFile)
+        from(java17.allSource)
     }
 
     withType<JavaCompile> {
         dependsOn(generateVersionsFile)
     }
 
+    named<JavaCompile>(java17.compileJavaTaskName) {
+        options.release = 17
+        options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    }
+
+    jar {
+        into("META-INF/versions/17") {
+            from(java17.output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+
+    withType<ShadowJar> {
+        into("META-INF/versions/17") {
+            from(java17.output)
+        }
+    }
+
     processResources {
         dependsOn(compressMappings)
         from(project.layout.buildDirectory.dir("mappings/generated").get())
@@ -140,6 +168,8 @@ tasks {
 
     test {
         useJUnitPlatform()
+        classpath += java17.output
+        jvmArgs("--add-modules", "jdk.incubator.vector")
     }
 
     shadowJar {
@@ -20,6 +20,8 @@ package com.github.retrooper.packetevents.event;
 
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.exception.InvalidHandshakeException;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -52,6 +54,11 @@ public class EventManager {
     //Since reads greatly outnumber writes, create an array for the best possible iteration time
     //Updated as a whole on writes, no index modifications are allowed
     private volatile PacketListenerCommon[] listeners = new PacketListenerCommon[0];
+    //Listeners which did not declare any packet types, used for packet types no listener is explicitly interested in
+    private volatile PacketListenerCommon[] globalPacketListeners = new PacketListenerCommon[0];
+    //Per packet type listener arrays, so packet events only visit the listeners interested in them
+    //Rebuilt as a whole on writes, never modified afterwards
+    private volatile Map<PacketTypeCommon, PacketListenerCommon[]> packetTypeListeners = Collections.emptyMap();
 
 
     /**
@@ -79,6 +86,8 @@ public class EventManager {
      * @param postCallListenerAction The action to be ran after all the listeners have finished processing
      */
     public void callEvent(PacketEvent event, @Nullable Runnable postCallListenerAction) {
+        PacketListenerCommon[] listeners = event instanceof ProtocolPacketEvent
+                ? this.getListeners(((ProtocolPacketEvent) event).getPacketType()) : this.listeners;
         for (PacketListenerCommon listener : listeners) {
             try {
                 event.call(listener);
@@ -93,11 +102,28 @@ public class EventManager {
             }
         }
         // For performance reasons, we don't want to re-encode the packet if it's not needed.
-        if (event instanceof ProtocolPacketEvent && !((ProtocolPacketEvent) event).needsReEncode()) {
-            ((ProtocolPacketEvent) event).setLastUsedWrapper(null);
+        if (event instanceof ProtocolPacketEvent) {
+            ProtocolPacketEvent packetEvent = (ProtocolPacketEvent) event;
+            PacketWrapper<?> wrapper = packetEvent.getLastUsedWrapper();
+            if (wrapper != null && (!packetEvent.needsReEncode()
+                    || (!wrapper.isDirty() && !packetEvent.isReEncodeRequested()
+                    && PacketEvents.getAPI().getSettings().reEncodeOnlyModified()))) {
+                packetEvent.setLastUsedWrapper(null);
+            }
         }
     }
 
+    /**
+     * Get the listeners which will process packets of the given type, ordered by priority.
+     *
+     * @param packetType {@link PacketTypeCommon}
+     * @return Listeners interested in the packet type, the returned array must not be modified
+     */
+    public PacketListenerCommon[] getListeners(@Nullable PacketTypeCommon packetType) {
+        PacketListenerCommon[] listeners = this.packetTypeListeners.get(packetType);
+        return listeners != null ? listeners : this.globalPacketListeners;
+    }
+
     /**
      * Register the dynamic packet event listener.
      *
@@ -153,6 +179,8 @@ public class EventManager {
         this.listenersMap.clear();
         synchronized (this) {//like booky10 said, the synchronization is necessary here
             this.listeners = new PacketListenerCommon[0];
+            this.globalPacketListeners = new PacketListenerCommon[0];
+            this.packetTypeListeners = Collections.emptyMap();
         }
     }
 
@@ -167,6 +195,32 @@ public class EventManager {
                 if (set != null) list.addAll(set);
             }
             this.listeners = list.toArray(new PacketListenerCommon[0]);
+
+            //Collect every packet type any listener is interested in
+            List<PacketListenerCommon> globalPacketListeners = new ArrayList<>();
+            Set<PacketTypeCommon> packetTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (PacketListenerCommon listener : list) {
+                Set<PacketTypeCommon> types = listener.getPacketTypes();
+                if (types == null) {
+                    globalPacketListeners.add(listener);
+                } else {
+                    packetTypes.addAll(types);
+                }
+            }
+            //For each of them, keep the listeners interested in it, maintaining the priority order
+            Map<PacketTypeCommon, PacketListenerCommon[]> packetTypeListeners = new IdentityHashMap<>(packetTypes.size());
+            for (PacketTypeCommon packetType : packetTypes) {
+                List<PacketListenerCommon> interested = new ArrayList<>();
+                for (PacketListenerCommon listener : list) {
+                    Set<PacketTypeCommon> types = listener.getPacketTypes();
+                    if (types == null || types.contains(packetType)) {
+                        interested.add(listener);
+                    }
+                }
+                packetTypeListeners.put(packetType, interested.toArray(new PacketListenerCommon[0]));
+            }
+            this.globalPacketListeners = globalPacketListeners.toArray(new PacketListenerCommon[0]);
+            this.packetTypeListeners = packetTypeListeners;
         }
     }
 
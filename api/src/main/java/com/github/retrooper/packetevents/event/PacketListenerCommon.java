@@ -18,9 +18,13 @@
 
 package com.github.retrooper.packetevents.event;
 
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Abstract packet listener.
@@ -43,6 +47,17 @@ public abstract class PacketListenerCommon {
         return priority;
     }
 
+    /**
+     * The packet types this listener wants to be notified about.
+     * The {@link EventManager} only queries this when (un)registering listeners,
+     * so the returned set must not change after registration.
+     *
+     * @return Packet types this listener processes, or {@code null} to process every packet.
+     */
+    public @Nullable Set<PacketTypeCommon> getPacketTypes() {
+        return null;
+    }
+
     public void onUserConnect(UserConnectEvent event) {
     }
 
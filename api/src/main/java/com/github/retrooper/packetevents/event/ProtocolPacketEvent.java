@@ -30,6 +30,7 @@ import com.github.retrooper.packetevents.protocol.PacketSide;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.ProtocolProfile;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.NotNull;
@@ -54,6 +55,8 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
     private List<Runnable> postTasks = null;
     private boolean cloned;
     private boolean needsReEncode = PacketEvents.getAPI().getSettings().reEncodeByDefault();
+    // Whether a listener explicitly asked for re-encoding, unlike the default this also covers unmodified wrappers
+    private boolean reEncodeRequested;
 
     public ProtocolPacketEvent(PacketSide packetSide, Object channel,
                                User user, Object player, Object byteBuf,
@@ -61,11 +64,11 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
         this.channel = channel;
         this.user = user;
         this.player = player;
-        if (autoProtocolTranslation || user.getClientVersion() == null) {
+        ProtocolProfile profile = user.getProtocolProfile();
+        if (autoProtocolTranslation || profile == null) {
             this.serverVersion = PacketEvents.getAPI().getServerManager().getVersion();
         } else {
-            //TODO Optimize
-            this.serverVersion = user.getClientVersion().toServerVersion();
+            this.serverVersion = profile.getServerVersion();
         }
 
         this.byteBuf = byteBuf;
@@ -109,12 +112,23 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
 
     public void markForReEncode(boolean needsReEncode) {
         this.needsReEncode = needsReEncode;
+        this.reEncodeRequested = needsReEncode;
     }
 
     public boolean needsReEncode() {
         return needsReEncode;
     }
 
+    /**
+     * Whether a listener explicitly marked the packet for re-encoding, for example after modifying
+     * the data of a wrapper in place. Such packets are re-encoded even if their wrapper is not dirty.
+     *
+     * @return Was {@link #markForReEncode(boolean)} last called with true?
+     */
+    public boolean isReEncodeRequested() {
+        return reEncodeRequested;
+    }
+
 
     public boolean isClone() {
         return cloned;
@@ -25,21 +25,46 @@ import com.github.retrooper.packetevents.event.PacketReceiveEvent;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.manager.protocol.ProtocolManager;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.protocol.ConnectionState;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.protocol.player.UserProfile;
+import com.github.retrooper.packetevents.protocol.world.chunk.ChunkDataCache;
+import com.github.retrooper.packetevents.util.Vector3i;
 import com.github.retrooper.packetevents.util.LogManager;
 import com.github.retrooper.packetevents.util.mappings.SynchronizedRegistriesHandler;
 import com.github.retrooper.packetevents.wrapper.configuration.server.WrapperConfigServerRegistryData;
 import com.github.retrooper.packetevents.wrapper.handshaking.client.WrapperHandshakingClientHandshake;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import com.github.retrooper.packetevents.wrapper.login.server.WrapperLoginServerLoginSuccess;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerBlockChange;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerJoinGame;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerMultiBlockChange;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerRespawn;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 public class InternalPacketListener extends PacketListenerAbstract {
 
+    private static final Set<PacketTypeCommon> PACKET_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            PacketType.Handshaking.Client.HANDSHAKE,
+            PacketType.Login.Client.LOGIN_SUCCESS_ACK,
+            PacketType.Login.Server.LOGIN_SUCCESS,
+            PacketType.Configuration.Client.CONFIGURATION_END_ACK,
+            PacketType.Configuration.Server.REGISTRY_DATA,
+            PacketType.Configuration.Server.CONFIGURATION_END,
+            PacketType.Play.Client.CONFIGURATION_ACK,
+            PacketType.Play.Server.JOIN_GAME,
+            PacketType.Play.Server.RESPAWN,
+            PacketType.Play.Server.CONFIGURATION_START
+    )));
+
     public InternalPacketListener() {
         this(PacketListenerPriority.LOWEST);
     }
@@ -48,6 +73,22 @@ public class InternalPacketListener extends PacketListenerAbstract {
         super(priority);
     }
 
+    // Block changes invalidate the cached chunk data packets of their chunk
+    private static final Set<PacketTypeCommon> CHUNK_CACHE_PACKET_TYPES;
+
+    static {
+        Set<PacketTypeCommon> packetTypes = new HashSet<>(PACKET_TYPES);
+        packetTypes.add(PacketType.Play.Server.BLOCK_CHANGE);
+        packetTypes.add(PacketType.Play.Server.MULTI_BLOCK_CHANGE);
+        CHUNK_CACHE_PACKET_TYPES = Collections.unmodifiableSet(packetTypes);
+    }
+
+    @Override
+    public Set<PacketTypeCommon> getPacketTypes() {
+        return PacketEvents.getAPI().getSettings().getChunkDataCacheSize() > 0
+                ? CHUNK_CACHE_PACKET_TYPES : PACKET_TYPES;
+    }
+
     @Override
     public void onPacketSend(PacketSendEvent event) {
         User user = event.getUser();
@@ -116,7 +157,51 @@ public class InternalPacketListener extends PacketListenerAbstract {
             user.setEncoderState(ConnectionState.CONFIGURATION);
         } else if (event.getPacketType() == PacketType.Configuration.Server.CONFIGURATION_END) {
             user.setEncoderState(ConnectionState.PLAY);
+        } else if (event.getPacketType() == PacketType.Play.Server.BLOCK_CHANGE
+                || event.getPacketType() == PacketType.Play.Server.MULTI_BLOCK_CHANGE) {
+            invalidateChunk(event);
+        }
+    }
+
+    private static void invalidateChunk(PacketSendEvent event) {
+        int chunkX;
+        int chunkZ;
+        PacketWrapper<?> wrapper = event.getLastUsedWrapper();
+        if (wrapper instanceof WrapperPlayServerBlockChange) {
+            Vector3i position = ((WrapperPlayServerBlockChange) wrapper).getBlockPosition();
+            chunkX = position.getX() >> 4;
+            chunkZ = position.getZ() >> 4;
+        } else if (wrapper instanceof WrapperPlayServerMultiBlockChange) {
+            Vector3i position = ((WrapperPlayServerMultiBlockChange) wrapper).getChunkPosition();
+            chunkX = position.getX();
+            chunkZ = position.getZ();
+        } else if (wrapper == null) {
+            // Peek at the position instead of reading a wrapper, which would have the packet re-encoded
+            Object buffer = event.getByteBuf();
+            int index = ByteBufHelper.readerIndex(buffer);
+            ServerVersion version = event.getServerVersion();
+            if (event.getPacketType() == PacketType.Play.Server.BLOCK_CHANGE) {
+                if (version == ServerVersion.V_1_7_10) {
+                    chunkX = ByteBufHelper.getInt(buffer, index) >> 4;
+                    // The y coordinate is a single byte between x and z
+                    chunkZ = ByteBufHelper.getInt(buffer, index + Integer.BYTES + 1) >> 4;
+                } else {
+                    Vector3i position = new Vector3i(ByteBufHelper.getLong(buffer, index), version);
+                    chunkX = position.getX() >> 4;
+                    chunkZ = position.getZ() >> 4;
+                }
+            } else if (version.isNewerThanOrEquals(ServerVersion.V_1_16)) {
+                long position = ByteBufHelper.getLong(buffer, index);
+                chunkX = (int) (position >> 42);
+                chunkZ = (int) (position << 22 >> 42);
+            } else {
+                chunkX = ByteBufHelper.getInt(buffer, index);
+                chunkZ = ByteBufHelper.getInt(buffer, index + Integer.BYTES);
+            }
+        } else {
+            return;
         }
+        ChunkDataCache.invalidate(event.getUser().getDimensionType(), chunkX, chunkZ);
     }
 
     @Override
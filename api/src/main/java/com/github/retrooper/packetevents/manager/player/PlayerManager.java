@@ -25,6 +25,10 @@ import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 public interface PlayerManager {
     int getPing(@NotNull Object player);
 
@@ -53,6 +57,32 @@ public interface PlayerManager {
         PacketEvents.getAPI().getProtocolManager().sendPacketSilently(getChannel(player), wrapper);
     }
 
+    /**
+     * Sends the wrapper to all players, encoding it only once for every client version in between them.
+     *
+     * @param players The players to send the packet to
+     * @param wrapper The packet wrapper
+     * @see com.github.retrooper.packetevents.manager.protocol.ProtocolManager#broadcastPacket(Collection, PacketWrapper)
+     */
+    default void broadcastPacket(@NotNull Collection<?> players, @NotNull PacketWrapper<?> wrapper) {
+        PacketEvents.getAPI().getProtocolManager().broadcastPacket(getChannels(players), wrapper);
+    }
+
+    default void broadcastPacketSilently(@NotNull Collection<?> players, @NotNull PacketWrapper<?> wrapper) {
+        PacketEvents.getAPI().getProtocolManager().broadcastPacketSilently(getChannels(players), wrapper);
+    }
+
+    default List<Object> getChannels(@NotNull Collection<?> players) {
+        List<Object> channels = new ArrayList<>(players.size());
+        for (Object player : players) {
+            Object channel = getChannel(player);
+            if (channel != null) {
+                channels.add(channel);
+            }
+        }
+        return channels;
+    }
+
     default void writePacket(@NotNull Object player, @NotNull Object byteBuf) {
         PacketEvents.getAPI().getProtocolManager().writePacket(getChannel(player), byteBuf);
     }
@@ -19,8 +19,10 @@
 package com.github.retrooper.packetevents.manager.protocol;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.netty.channel.ChannelHelper;
 import com.github.retrooper.packetevents.protocol.ProtocolVersion;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.PacketTransformationUtil;
@@ -29,13 +31,18 @@ import org.jetbrains.annotations.ApiStatus;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public interface ProtocolManager {
     Map<UUID, Object> CHANNELS = new ConcurrentHashMap<>();
     // Use SocketAddress because ProtocolLib wraps Channels with NettyChannelProxy class
     Map<Object, User> USERS = new ConcurrentHashMap<>();
+    // Users with packets waiting in their packet queue
+    @ApiStatus.Internal
+    Queue<User> QUEUED_USERS = new ConcurrentLinkedQueue<>();
 
     default Collection<User> getUsers() {
         return USERS.values();
@@ -93,6 +100,18 @@ public interface ProtocolManager {
     }
 
 
+    /**
+     * Drains the packet queue of every user who queued packets since the last drain.
+     *
+     * @see User#queuePacket(Object)
+     */
+    default void drainPacketQueues() {
+        User user;
+        while ((user = QUEUED_USERS.poll()) != null) {
+            user.drainPacketQueue();
+        }
+    }
+
     default void setClientVersion(Object channel, ClientVersion version) {
         getUser(channel).setClientVersion(version);
     }
@@ -135,6 +154,67 @@ public interface ProtocolManager {
         writePacketsSilently(channel, transformed);
     }
 
+    /**
+     * Sends the wrapper to all channels, encoding it only once for every client version in between them.
+     *
+     * @param channels The channels to send the packet to
+     * @param wrapper  The packet wrapper
+     */
+    default void broadcastPacket(Collection<?> channels, PacketWrapper<?> wrapper) {
+        broadcastPacket(channels, wrapper, false);
+    }
+
+    default void broadcastPacketSilently(Collection<?> channels, PacketWrapper<?> wrapper) {
+        broadcastPacket(channels, wrapper, true);
+    }
+
+    @ApiStatus.Internal
+    default void broadcastPacket(Collection<?> channels, PacketWrapper<?> wrapper, boolean silently) {
+        if (channels.isEmpty()) {
+            return;
+        }
+        //Only proxies encode the packet differently depending on the client version
+        boolean proxy = PacketEvents.getAPI().getInjector().isProxy();
+        Object[][] encoded = new Object[proxy ? ClientVersion.values().length : 1][];
+        //Listeners may rewrite the buffer in place, so channels may only share the memory if no listener gets to see it
+        PacketTypeCommon packetType = wrapper.getPacketTypeData().getPacketType();
+        boolean shared = silently || packetType != null
+                && PacketEvents.getAPI().getEventManager().getListeners(packetType).length == 0;
+        try {
+            for (Object channel : channels) {
+                int slot = 0;
+                if (proxy) {
+                    User user = getUser(channel);
+                    if (user == null || user.getClientVersion() == null) {
+                        continue;
+                    }
+                    slot = user.getClientVersion().ordinal();
+                }
+                Object[] buffers = encoded[slot];
+                if (buffers == null) {
+                    buffers = encoded[slot] = transformWrappers(wrapper, channel, true);
+                }
+                for (Object buffer : buffers) {
+                    Object target = shared && buffers.length == 1
+                            ? ByteBufHelper.retainedDuplicate(buffer) : ByteBufHelper.copy(buffer);
+                    if (silently) {
+                        sendPacketSilently(channel, target);
+                    } else {
+                        sendPacket(channel, target);
+                    }
+                }
+            }
+        } finally {
+            for (Object[] buffers : encoded) {
+                if (buffers != null) {
+                    for (Object buffer : buffers) {
+                        ByteBufHelper.release(buffer);
+                    }
+                }
+            }
+        }
+    }
+
     default void receivePacket(Object channel, PacketWrapper<?> wrapper) {
         Object[] transformed = transformWrappers(wrapper, channel, false);
         receivePackets(channel, transformed);
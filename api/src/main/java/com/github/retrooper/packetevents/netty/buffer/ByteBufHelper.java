@@ -19,227 +19,291 @@
 package com.github.retrooper.packetevents.netty.buffer;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import org.jetbrains.annotations.ApiStatus;
 
 import java.nio.charset.Charset;
 
 public class ByteBufHelper {
+    //The operator of the current API, cached to spare the PacketEvents.getAPI().getNettyManager() lookups on every call
+    private static ByteBufOperator operator;
+
+    /**
+     * Updates the cached operator, called whenever the API instance changes.
+     *
+     * @param operator The platform's {@link ByteBufOperator}
+     * @see PacketEvents#setAPI(com.github.retrooper.packetevents.PacketEventsAPI)
+     */
+    @ApiStatus.Internal
+    public static void setOperator(ByteBufOperator operator) {
+        ByteBufHelper.operator = operator;
+    }
+
+    @ApiStatus.Internal
+    public static ByteBufOperator getOperator() {
+        return operator;
+    }
+
     public static int capacity(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().capacity(buffer);
+        return operator.capacity(buffer);
     }
 
     public static Object capacity(Object buffer, int capacity) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().capacity(buffer, capacity);
+        return operator.capacity(buffer, capacity);
     }
 
     public static int readerIndex(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readerIndex(buffer);
+        return operator.readerIndex(buffer);
     }
 
     public static Object readerIndex(Object buffer, int readerIndex) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readerIndex(buffer, readerIndex);
+        return operator.readerIndex(buffer, readerIndex);
     }
 
     public static int writerIndex(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().writerIndex(buffer);
+        return operator.writerIndex(buffer);
     }
 
     public static Object writerIndex(Object buffer, int writerIndex) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().writerIndex(buffer, writerIndex);
+        return operator.writerIndex(buffer, writerIndex);
     }
 
     public static int readableBytes(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readableBytes(buffer);
+        return operator.readableBytes(buffer);
     }
 
     public static int writableBytes(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().writableBytes(buffer);
+        return operator.writableBytes(buffer);
     }
 
     public static Object clear(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().clear(buffer);
+        return operator.clear(buffer);
     }
 
     public static String toString(Object buffer, int index, int length, Charset charset) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().toString(buffer, index, length, charset);
+        return operator.toString(buffer, index, length, charset);
     }
 
     public static byte readByte(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readByte(buffer);
+        return operator.readByte(buffer);
     }
 
     public static void writeByte(Object buffer, int value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeByte(buffer, value);
+        operator.writeByte(buffer, value);
     }
 
     public static boolean readBoolean(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readBoolean(buffer);
+        return operator.readBoolean(buffer);
     }
 
     public static void writeBoolean(Object buffer, boolean value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeBoolean(buffer, value);
+        operator.writeBoolean(buffer, value);
     }
 
     public static short readUnsignedByte(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readUnsignedByte(buffer);
+        return operator.readUnsignedByte(buffer);
     }
 
     public static char readChar(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readChar(buffer);
+        return operator.readChar(buffer);
     }
 
     public static void writeChar(Object buffer, int value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeChar(buffer, value);
+        operator.writeChar(buffer, value);
     }
 
     public static short readShort(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readShort(buffer);
+        return operator.readShort(buffer);
     }
 
     public static int readUnsignedShort(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readUnsignedShort(buffer);
+        return operator.readUnsignedShort(buffer);
     }
 
     public static void writeShort(Object buffer, int value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeShort(buffer, value);
+        operator.writeShort(buffer, value);
     }
 
     public static int readMedium(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readMedium(buffer);
+        return operator.readMedium(buffer);
     }
 
     public static void writeMedium(Object buffer, int value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeMedium(buffer, value);
+        operator.writeMedium(buffer, value);
     }
 
     public static int readInt(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readInt(buffer);
+        return operator.readInt(buffer);
     }
 
     public static void writeInt(Object buffer, int value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeInt(buffer, value);
+        operator.writeInt(buffer, value);
     }
 
     public static long readUnsignedInt(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readUnsignedInt(buffer);
+        return operator.readUnsignedInt(buffer);
     }
 
     public static long readLong(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readLong(buffer);
+        return operator.readLong(buffer);
     }
 
     public static void writeLong(Object buffer, long value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeLong(buffer, value);
+        operator.writeLong(buffer, value);
     }
 
     public static float readFloat(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readFloat(buffer);
+        return operator.readFloat(buffer);
     }
 
     public static void writeFloat(Object buffer, float value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeFloat(buffer, value);
+        operator.writeFloat(buffer, value);
     }
 
     public static double readDouble(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readDouble(buffer);
+        return operator.readDouble(buffer);
     }
 
     public static void writeDouble(Object buffer, double value) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeDouble(buffer, value);
+        operator.writeDouble(buffer, value);
     }
 
     public static Object getBytes(Object buffer, int index, byte[] destination) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().getBytes(buffer, index, destination);
+        return operator.getBytes(buffer, index, destination);
     }
 
     public static short getUnsignedByte(Object buffer, int index) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().getUnsignedByte(buffer, index);
+        return operator.getUnsignedByte(buffer, index);
+    }
+
+    public static int getInt(Object buffer, int index) {
+        return operator.getInt(buffer, index);
+    }
+
+    public static long getLong(Object buffer, int index) {
+        return operator.getLong(buffer, index);
     }
 
     public static boolean isReadable(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().isReadable(buffer);
+        return operator.isReadable(buffer);
     }
 
     public static Object copy(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().copy(buffer);
+        return operator.copy(buffer);
     }
 
     public static Object duplicate(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().duplicate(buffer);
+        return operator.duplicate(buffer);
     }
 
     public static boolean hasArray(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().hasArray(buffer);
+        return operator.hasArray(buffer);
     }
 
     public static byte[] array(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().array(buffer);
+        return operator.array(buffer);
     }
 
     public static Object retain(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().retain(buffer);
+        return operator.retain(buffer);
     }
 
     public static Object retainedDuplicate(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().retainedDuplicate(buffer);
+        return operator.retainedDuplicate(buffer);
     }
 
     public static Object readSlice(Object buffer, int length) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readSlice(buffer, length);
+        return operator.readSlice(buffer, length);
     }
 
     public static Object readBytes(Object buffer, byte[] destination, int destinationIndex, int length) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readBytes(buffer, destination, destinationIndex, length);
+        return operator.readBytes(buffer, destination, destinationIndex, length);
     }
 
     public static Object readBytes(Object buffer, int length) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readBytes(buffer, length);
+        return operator.readBytes(buffer, length);
     }
 
     public static Object writeBytes(Object buffer, Object src) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeBytes(buffer, src);
+        return operator.writeBytes(buffer, src);
     }
 
     public static void readBytes(Object buffer, byte[] bytes) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().readBytes(buffer, bytes);
+        operator.readBytes(buffer, bytes);
     }
 
     public static void writeBytes(Object buffer, byte[] bytes) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeBytes(buffer, bytes);
+        operator.writeBytes(buffer, bytes);
+    }
+
+    public static int writeUtf8(Object buffer, CharSequence sequence) {
+        return operator.writeUtf8(buffer, sequence);
     }
 
     public static void writeBytes(Object buffer, byte[] bytes, int offset, int length) {
-        PacketEvents.getAPI().getNettyManager().getByteBufOperator().writeBytes(buffer, bytes, offset, length);
+        operator.writeBytes(buffer, bytes, offset, length);
     }
 
     public static boolean release(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().release(buffer);
+        return operator.release(buffer);
     }
 
     public static int refCnt(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().refCnt(buffer);
+        return operator.refCnt(buffer);
     }
 
     public static Object skipBytes(Object buffer, int length) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().skipBytes(buffer, length);
+        return operator.skipBytes(buffer, length);
     }
 
     public static Object markReaderIndex(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().markReaderIndex(buffer);
+        return operator.markReaderIndex(buffer);
     }
 
     public static Object resetReaderIndex(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().resetReaderIndex(buffer);
+        return operator.resetReaderIndex(buffer);
     }
 
     public static Object markWriterIndex(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().markWriterIndex(buffer);
+        return operator.markWriterIndex(buffer);
     }
 
     public static Object resetWriterIndex(Object buffer) {
-        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().resetWriterIndex(buffer);
+        return operator.resetWriterIndex(buffer);
     }
 
     public static int readVarInt(Object buffer) {
+        int readerIndex = readerIndex(buffer);
+        if (readableBytes(buffer) < 4) {
+            // Close to the end of the buffer, we can't read four bytes at once
+            return readVarIntSlow(buffer);
+        }
+        // Read the first four bytes at once, the first byte being the most significant one
+        int bytes = getInt(buffer, readerIndex);
+        // One bit set for every byte without a continuation bit
+        int ends = ~bytes & 0x80808080;
+        if (ends == 0) {
+            // VarInt is five bytes long
+            readerIndex(buffer, readerIndex + 4);
+            byte last = readByte(buffer);
+            if ((last & 0x80) != 0) {
+                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
+            }
+            return decodeVarIntBytes(bytes, 4) | last << 28;
+        }
+        int length = (Integer.numberOfLeadingZeros(ends) >>> 3) + 1;
+        readerIndex(buffer, readerIndex + length);
+        return decodeVarIntBytes(bytes, length);
+    }
+
+    // Joins the 7-bit groups of the first length bytes, which are stored big-endian in the passed int
+    private static int decodeVarIntBytes(int bytes, int length) {
+        // Least significant group first, dropping continuation bits and all bytes after the VarInt
+        int value = Integer.reverseBytes(bytes & 0x7F7F7F7F) & (-1 >>> (32 - (length << 3)));
+        value = value & 0x007F007F | (value & 0x7F007F00) >>> 1;
+        return value & 0x00003FFF | (value & 0x3FFF0000) >>> 2;
+    }
+
+    private static int readVarIntSlow(Object buffer) {
         int value = 0;
         int length = 0;
         byte currentByte;
@@ -254,6 +318,51 @@ public class ByteBufHelper {
         return value;
     }
 
+    public static long readVarLong(Object buffer) {
+        int readerIndex = readerIndex(buffer);
+        if (readableBytes(buffer) < 8) {
+            // Close to the end of the buffer, we can't read eight bytes at once
+            return readVarLongSlow(buffer, 0L, 0);
+        }
+        // Read the first eight bytes at once, the first byte being the most significant one
+        long bytes = getLong(buffer, readerIndex);
+        // One bit set for every byte without a continuation bit
+        long ends = ~bytes & 0x8080808080808080L;
+        if (ends == 0L) {
+            // VarLong is longer than eight bytes, continue with the remaining bytes
+            readerIndex(buffer, readerIndex + 8);
+            return readVarLongSlow(buffer, decodeVarLongBytes(bytes, 8), 8);
+        }
+        int length = (Long.numberOfLeadingZeros(ends) >>> 3) + 1;
+        readerIndex(buffer, readerIndex + length);
+        return decodeVarLongBytes(bytes, length);
+    }
+
+    // Joins the 7-bit groups of the first length bytes, which are stored big-endian in the passed long
+    private static long decodeVarLongBytes(long bytes, int length) {
+        // Least significant group first, dropping continuation bits and all bytes after the VarLong
+        long value = Long.reverseBytes(bytes & 0x7F7F7F7F7F7F7F7FL) & (-1L >>> (64 - (length << 3)));
+        value = value & 0x007F007F007F007FL | (value & 0x7F007F007F007F00L) >>> 1;
+        value = value & 0x00003FFF00003FFFL | (value & 0x3FFF00003FFF0000L) >>> 2;
+        return value & 0x000000000FFFFFFFL | (value & 0x0FFFFFFF00000000L) >>> 4;
+    }
+
+    private static long readVarLongSlow(Object buffer, long value, int size) {
+        int b;
+        while (((b = readByte(buffer)) & 0x80) == 0x80) {
+            value |= (long) (b & 0x7F) << (size++ * 7);
+        }
+        return value | ((long) (b & 0x7F) << (size * 7));
+    }
+
+    /**
+     * @return The amount of bytes the value takes up when written as a VarInt
+     */
+    public static int getVarIntSize(int value) {
+        // Negative values have all 32 bits set and always take up five bytes
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
     public static void writeVarInt(Object buffer, int value) {
         while (true) {
             if ((value & ~0x7F) == 0) {
@@ -265,6 +374,14 @@ public class ByteBufHelper {
         }
     }
 
+    public static void writeVarLong(Object buffer, long value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte(buffer, (int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(buffer, (int) value);
+    }
+
     public static byte[] copyBytes(Object buffer) {
         byte[] bytes = new byte[readableBytes(buffer)];
         getBytes(buffer, readerIndex(buffer), bytes);
@@ -48,6 +48,8 @@ public interface ByteBufOperator {
 
     Object getBytes(Object buffer, int index, byte[] destination);
     short getUnsignedByte(Object buffer, int index);
+    int getInt(Object buffer, int index);
+    long getLong(Object buffer, int index);
 
     boolean isReadable(Object buffer);
     Object copy(Object buffer);
@@ -108,6 +110,36 @@ public interface ByteBufOperator {
         return (short) (this.readByte(buffer) & 255);
     }
 
+    //Encodes like String#getBytes(UTF_8), but without allocating the bytes
+    default int writeUtf8(Object buffer, CharSequence sequence) {
+        int written = 0;
+        int length = sequence.length();
+        for (int i = 0; i < length; i++) {
+            char c = sequence.charAt(i);
+            if (c < 0x80) {
+                writeByte(buffer, c);
+                written += 1;
+            } else if (c < 0x800) {
+                writeShort(buffer, (0xC0 | c >> 6) << 8 | 0x80 | c & 0x3F);
+                written += 2;
+            } else if (!Character.isSurrogate(c)) {
+                writeMedium(buffer, (0xE0 | c >> 12) << 16 | (0x80 | c >> 6 & 0x3F) << 8 | 0x80 | c & 0x3F);
+                written += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(sequence.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, sequence.charAt(++i));
+                writeInt(buffer, (0xF0 | codePoint >> 18) << 24 | (0x80 | codePoint >> 12 & 0x3F) << 16
+                        | (0x80 | codePoint >> 6 & 0x3F) << 8 | 0x80 | codePoint & 0x3F);
+                written += 4;
+            } else {
+                //Unpaired surrogate
+                writeByte(buffer, '?');
+                written += 1;
+            }
+        }
+        return written;
+    }
+
     default boolean readBoolean(Object buffer) {
         return readByte(buffer) != 0;
     }
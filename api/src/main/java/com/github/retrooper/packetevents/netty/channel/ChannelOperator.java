@@ -56,5 +56,12 @@ public interface ChannelOperator {
 
     void runInEventLoop(Object channel, Runnable runnable);
 
+    /**
+     * @return Whether the current thread is the event loop of the channel, false if unknown
+     */
+    default boolean inEventLoop(Object channel) {
+        return false;
+    }
+
     Object pooledByteBuf(Object channel);
 }
@@ -34,6 +34,7 @@ import com.github.retrooper.packetevents.resources.ResourceLocation;
 import com.github.retrooper.packetevents.util.Quaternion4f;
 import com.github.retrooper.packetevents.util.Vector3f;
 import com.github.retrooper.packetevents.util.Vector3i;
+import com.github.retrooper.packetevents.util.mappings.MappingHelper;
 import com.github.retrooper.packetevents.util.mappings.TypesBuilder;
 import com.github.retrooper.packetevents.util.mappings.TypesBuilderData;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
@@ -51,6 +52,7 @@ public class EntityDataTypes {
 
     private static final Map<String, EntityDataType<?>> ENTITY_DATA_TYPE_MAP = new HashMap<>();
     private static final Map<Byte, Map<Integer, EntityDataType<?>>> ENTITY_DATA_TYPE_ID_MAP = new HashMap<>();
+    private static volatile Object[][] entityDataTypeIdTable;
     protected static final TypesBuilder TYPES_BUILDER = new TypesBuilder("entity/entity_data_type_mappings");
 
     public static final EntityDataType<Byte> BYTE = define("byte", PacketWrapper::readByte, PacketWrapper::writeByte);
@@ -215,9 +217,11 @@ public class EntityDataTypes {
     }
 
     public static EntityDataType<?> getById(ClientVersion version, int id) {
-        int index = TYPES_BUILDER.getDataIndex(version);
-        Map<Integer, EntityDataType<?>> typeIdMap = ENTITY_DATA_TYPE_ID_MAP.get((byte) index);
-        return typeIdMap.get(id);
+        Object[][] table = entityDataTypeIdTable;
+        if (table == null) {
+            entityDataTypeIdTable = table = MappingHelper.createIdTable(ENTITY_DATA_TYPE_ID_MAP);
+        }
+        return (EntityDataType<?>) MappingHelper.getFromIdTable(table, TYPES_BUILDER.getDataIndex(version), id);
     }
 
     public static EntityDataType<?> getByName(String name) {
@@ -236,6 +240,7 @@ public class EntityDataTypes {
                     .computeIfAbsent((byte) index, k -> new HashMap<>());
             typeIdMap.put(type.getId(version), type);
         }
+        entityDataTypeIdTable = null;
         return type;
     }
 
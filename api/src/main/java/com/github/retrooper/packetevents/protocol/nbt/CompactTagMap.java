@@ -0,0 +1,252 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.nbt;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Insertion ordered map holding the tags of a compound.
+ * Most compounds only have a few tags, which are kept in two arrays and searched linearly.
+ * Compounds growing beyond that are promoted to a {@link LinkedHashMap}.
+ * Null keys are not permitted, iterators fail fast like those of the {@link LinkedHashMap}.
+ */
+final class CompactTagMap extends AbstractMap<String, NBT> {
+
+    private static final int MAX_COMPACT_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private String @Nullable [] keys;
+    private NBT @Nullable [] values;
+    private int size;
+    // Counts structural modifications of the arrays, to fail fast while iterating
+    private int modCount;
+    // Only set once the map was promoted
+    private @Nullable Map<String, NBT> map;
+    private @Nullable Set<Entry<String, NBT>> entrySet;
+
+    private int indexOf(Object key) {
+        String[] keys = this.keys;
+        for (int i = 0; i < this.size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.map != null ? this.map.size() : this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.map != null ? this.map.containsKey(key) : this.indexOf(key) != -1;
+    }
+
+    @Override
+    public NBT get(Object key) {
+        if (this.map != null) {
+            return this.map.get(key);
+        }
+        int index = this.indexOf(key);
+        return index != -1 ? this.values[index] : null;
+    }
+
+    @Override
+    public NBT put(String key, NBT value) {
+        Objects.requireNonNull(key, "Tag names must not be null");
+        if (this.map != null) {
+            return this.map.put(key, value);
+        }
+        int index = this.indexOf(key);
+        if (index != -1) {
+            NBT previous = this.values[index];
+            this.values[index] = value;
+            return previous;
+        }
+
+        if (this.size == MAX_COMPACT_SIZE) {
+            Map<String, NBT> map = new LinkedHashMap<>();
+            for (int i = 0; i < this.size; i++) {
+                map.put(this.keys[i], this.values[i]);
+            }
+            map.put(key, value);
+            this.map = map;
+            this.keys = null;
+            this.values = null;
+            this.size = 0;
+            this.modCount++;
+            return null;
+        }
+        if (this.keys == null) {
+            this.keys = new String[INITIAL_CAPACITY];
+            this.values = new NBT[INITIAL_CAPACITY];
+        } else if (this.size == this.keys.length) {
+            String[] keys = new String[MAX_COMPACT_SIZE];
+            NBT[] values = new NBT[MAX_COMPACT_SIZE];
+            System.arraycopy(this.keys, 0, keys, 0, this.size);
+            System.arraycopy(this.values, 0, values, 0, this.size);
+            this.keys = keys;
+            this.values = values;
+        }
+        this.keys[this.size] = key;
+        this.values[this.size++] = value;
+        this.modCount++;
+        return null;
+    }
+
+    @Override
+    public NBT remove(Object key) {
+        if (this.map != null) {
+            return this.map.remove(key);
+        }
+        int index = this.indexOf(key);
+        return index != -1 ? this.removeAt(index) : null;
+    }
+
+    private NBT removeAt(int index) {
+        NBT previous = this.values[index];
+        int moved = this.size - index - 1;
+        System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+        System.arraycopy(this.values, index + 1, this.values, index, moved);
+        this.size--;
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+        this.modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        this.keys = null;
+        this.values = null;
+        this.size = 0;
+        this.map = null;
+        this.modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, NBT>> entrySet() {
+        Set<Entry<String, NBT>> entrySet = this.entrySet;
+        return entrySet != null ? entrySet : (this.entrySet = new EntrySet());
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, NBT>> {
+
+        @Override
+        public int size() {
+            return CompactTagMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactTagMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, NBT>> iterator() {
+            if (CompactTagMap.this.map != null) {
+                return CompactTagMap.this.map.entrySet().iterator();
+            }
+            return new Iterator<Entry<String, NBT>>() {
+                private int next;
+                private int last = -1;
+                private int expectedModCount = CompactTagMap.this.modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < CompactTagMap.this.size;
+                }
+
+                @Override
+                public Entry<String, NBT> next() {
+                    this.checkForComodification();
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    this.last = this.next++;
+                    return new CompactEntry(this.last);
+                }
+
+                @Override
+                public void remove() {
+                    if (this.last == -1) {
+                        throw new IllegalStateException();
+                    }
+                    this.checkForComodification();
+                    CompactTagMap.this.removeAt(this.last);
+                    this.next = this.last;
+                    this.last = -1;
+                    this.expectedModCount = CompactTagMap.this.modCount;
+                }
+
+                private void checkForComodification() {
+                    if (CompactTagMap.this.modCount != this.expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                }
+            };
+        }
+    }
+
+    private final class CompactEntry extends SimpleEntry<String, NBT> {
+
+        private final int index;
+
+        private CompactEntry(int index) {
+            super(CompactTagMap.this.keys[index], CompactTagMap.this.values[index]);
+            this.index = index;
+        }
+
+        // Writes through to the map as long as it still holds the tag, even if it was moved or promoted since
+        @Override
+        public NBT setValue(NBT value) {
+            String key = this.getKey();
+            Map<String, NBT> map = CompactTagMap.this.map;
+            if (map != null) {
+                if (map.containsKey(key)) {
+                    map.put(key, value);
+                }
+            } else {
+                int index = this.index < CompactTagMap.this.size && CompactTagMap.this.keys[this.index] == key
+                        ? this.index : CompactTagMap.this.indexOf(key);
+                if (index != -1) {
+                    CompactTagMap.this.values[index] = value;
+                }
+            }
+            return super.setValue(value);
+        }
+    }
+}
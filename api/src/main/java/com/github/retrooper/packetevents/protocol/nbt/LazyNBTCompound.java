@@ -0,0 +1,150 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.nbt;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.ByteBufNBTSerializer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compound which keeps the bytes it was read from and only parses them once it is accessed.
+ * Compounds which are never accessed are written back verbatim, without being parsed at all.
+ *
+ * @see com.github.retrooper.packetevents.settings.PacketEventsSettings#lazyNBT(boolean)
+ */
+public class LazyNBTCompound extends NBTCompound {
+
+    // The encoded tags of the compound, null once they have been parsed
+    private byte @Nullable [] rawTags;
+
+    /**
+     * @param rawTags The encoded tags of the compound, terminated by an end tag
+     */
+    public LazyNBTCompound(byte[] rawTags) {
+        this.rawTags = rawTags;
+    }
+
+    private void parse() {
+        byte[] rawTags = this.rawTags;
+        if (rawTags == null) {
+            return;
+        }
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(rawTags);
+        try {
+            // The limits were already applied while the compound was skipped
+            this.tags.putAll(ByteBufNBTSerializer.INSTANCE.readCompound(NBTLimiter.noop(), buffer).tags);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+        this.rawTags = null;
+    }
+
+    /**
+     * @return Whether the compound has been parsed
+     */
+    public boolean isParsed() {
+        return this.rawTags == null;
+    }
+
+    /**
+     * @return The encoded tags of the compound, or null if it has been parsed
+     */
+    @ApiStatus.Internal
+    public byte @Nullable [] getRawTags() {
+        return this.rawTags;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        parse();
+        return super.isEmpty();
+    }
+
+    @Override
+    public Set<String> getTagNames() {
+        parse();
+        return super.getTagNames();
+    }
+
+    @Override
+    public Map<String, NBT> getTags() {
+        parse();
+        return super.getTags();
+    }
+
+    @Override
+    public int size() {
+        parse();
+        return super.size();
+    }
+
+    @Override
+    public @Nullable NBT getTagOrNull(String key) {
+        parse();
+        return super.getTagOrNull(key);
+    }
+
+    @Override
+    public NBT removeTag(String key) {
+        parse();
+        return super.removeTag(key);
+    }
+
+    @Override
+    public void setTag(String key, NBT tag) {
+        parse();
+        super.setTag(key, tag);
+    }
+
+    @Override
+    public NBTCompound copy() {
+        byte[] rawTags = this.rawTags;
+        if (rawTags != null) {
+            // The encoded tags are never modified, so they can be shared
+            return new LazyNBTCompound(rawTags);
+        }
+        return super.copy();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        parse();
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        parse();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        parse();
+        return super.toString();
+    }
+}
@@ -22,13 +22,12 @@ import org.jetbrains.annotations.Nullable;
 
 import java.text.MessageFormat;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class NBTCompound extends NBT {
 
-    protected final Map<String, NBT> tags = new LinkedHashMap<>();
+    protected final Map<String, NBT> tags = new CompactTagMap();
 
     @Override
     public NBTType<NBTCompound> getType() {
@@ -218,7 +217,7 @@ public class NBTCompound extends NBT {
             if (isEmpty() && ((NBTCompound) other).isEmpty()) {
                 return true;
             }
-            return tags.equals(((NBTCompound) other).tags);
+            return tags.equals(((NBTCompound) other).getTags());
         }
         return false;
     }
@@ -18,11 +18,13 @@
 
 package com.github.retrooper.packetevents.protocol.nbt.codec;
 
+import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufInputStream;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufOutputStream;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.protocol.nbt.*;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.ByteBufNBTSerializer;
 import com.github.retrooper.packetevents.protocol.nbt.serializer.DefaultNBTSerializer;
 import com.google.gson.*;
 import com.google.gson.internal.LazilyParsedNumber;
@@ -158,8 +160,10 @@ public class NBTCodec {
         if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_8)) {
             try {
                 final boolean named = serverVersion.isOlderThan(ServerVersion.V_1_20_2);
-                return DefaultNBTSerializer.INSTANCE.deserializeTag(
-                        limiter, new ByteBufInputStream(byteBuf), named);
+                if (PacketEvents.getAPI() != null && PacketEvents.getAPI().getSettings().shouldReadNBTLazily()) {
+                    return ByteBufNBTSerializer.INSTANCE.deserializeTagLazily(limiter, byteBuf, named);
+                }
+                return ByteBufNBTSerializer.INSTANCE.deserializeTag(limiter, byteBuf, named);
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -189,12 +193,12 @@ public class NBTCodec {
 
     public static void writeNBTToBuffer(Object byteBuf, ServerVersion serverVersion, NBT tag) {
         if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_8)) {
-            try (ByteBufOutputStream outputStream = new ByteBufOutputStream(byteBuf)) {
+            try {
                 if (tag != null) {
                     boolean named = serverVersion.isOlderThan(ServerVersion.V_1_20_2);
-                    DefaultNBTSerializer.INSTANCE.serializeTag(outputStream, tag, named);
+                    ByteBufNBTSerializer.INSTANCE.serializeTag(byteBuf, tag, named);
                 } else {
-                    DefaultNBTSerializer.INSTANCE.serializeTag(outputStream, NBTEnd.INSTANCE);
+                    ByteBufNBTSerializer.INSTANCE.serializeTag(byteBuf, NBTEnd.INSTANCE);
                 }
             } catch (IOException e) {
                 throw new IllegalStateException(e);
@@ -0,0 +1,396 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.nbt.serializer;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.nbt.*;
+
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Reads and writes NBT straight from and into a buffer, without going through {@link java.io.DataInput}
+ * and {@link java.io.DataOutput} streams. Produces the same output as the {@link DefaultNBTSerializer}.
+ */
+public class ByteBufNBTSerializer extends NBTSerializer<Object, Object> {
+
+    public static final ByteBufNBTSerializer INSTANCE = new ByteBufNBTSerializer();
+
+    @SuppressWarnings("unchecked")
+    public ByteBufNBTSerializer() {
+        super(
+                (limiter, buffer) -> {
+                    limiter.increment(1);
+                    return ByteBufHelper.readByte(buffer);
+                },
+                ByteBufHelper::writeByte,
+                (limiter, buffer) -> {
+                    String name = NBTNamePool.read(buffer);
+                    limiter.increment(name.length() * 2 + 28);
+                    return name;
+                },
+                ByteBufNBTSerializer::writeUTF
+        );
+        registerType(NBTType.END, 0, (limiter, buffer) -> {
+            limiter.increment(8);
+            return NBTEnd.INSTANCE;
+        }, (buffer, tag) -> {
+        });
+        registerType(NBTType.BYTE, 1, (limiter, buffer) -> {
+            limiter.increment(9);
+            return new NBTByte(ByteBufHelper.readByte(buffer));
+        }, (buffer, tag) -> ByteBufHelper.writeByte(buffer, tag.getAsByte()));
+        registerType(NBTType.SHORT, 2, (limiter, buffer) -> {
+            limiter.increment(10);
+            return new NBTShort(ByteBufHelper.readShort(buffer));
+        }, (buffer, tag) -> ByteBufHelper.writeShort(buffer, tag.getAsShort()));
+        registerType(NBTType.INT, 3, (limiter, buffer) -> {
+            limiter.increment(12);
+            return new NBTInt(ByteBufHelper.readInt(buffer));
+        }, (buffer, tag) -> ByteBufHelper.writeInt(buffer, tag.getAsInt()));
+        registerType(NBTType.LONG, 4, (limiter, buffer) -> {
+            limiter.increment(16);
+            return new NBTLong(ByteBufHelper.readLong(buffer));
+        }, (buffer, tag) -> ByteBufHelper.writeLong(buffer, tag.getAsLong()));
+        registerType(NBTType.FLOAT, 5, (limiter, buffer) -> {
+            limiter.increment(12);
+            return new NBTFloat(ByteBufHelper.readFloat(buffer));
+        }, (buffer, tag) -> ByteBufHelper.writeFloat(buffer, tag.getAsFloat()));
+        registerType(NBTType.DOUBLE, 6, (limiter, buffer) -> {
+            limiter.increment(16);
+            return new NBTDouble(ByteBufHelper.readDouble(buffer));
+        }, (buffer, tag) -> ByteBufHelper.writeDouble(buffer, tag.getAsDouble()));
+        registerType(
+                NBTType.BYTE_ARRAY, 7,
+                (limiter, buffer) -> {
+                    limiter.increment(24);
+                    int length = ByteBufHelper.readInt(buffer);
+
+                    if (length >= 1 << 24)
+                        throw new IllegalArgumentException("Byte array length is too large: " + length);
+
+                    limiter.checkReadability(length);
+                    limiter.increment(length);
+
+                    byte[] array = new byte[length];
+                    ByteBufHelper.readBytes(buffer, array);
+                    return new NBTByteArray(array);
+                },
+                (buffer, tag) -> {
+                    byte[] array = tag.getValue();
+                    ByteBufHelper.writeInt(buffer, array.length);
+                    ByteBufHelper.writeBytes(buffer, array);
+                }
+        );
+        registerType(NBTType.STRING, 8, (limiter, buffer) -> {
+            limiter.increment(36);
+            String string = readUTF(buffer);
+            limiter.increment(string.length() * 2);
+            return new NBTString(string);
+        }, (buffer, tag) -> writeUTF(buffer, tag.getValue()));
+        registerType(
+                NBTType.LIST, 9,
+                (limiter, buffer) -> {
+                    limiter.increment(37);
+
+                    NBTType<? extends NBT> valueType = readTagType(limiter, buffer);
+                    int size = ByteBufHelper.readInt(buffer);
+
+                    if ((valueType == NBTType.END) && (size > 0)) {
+                        throw new IllegalStateException("Missing nbt list values tag type");
+                    }
+                    limiter.increment(4 * size);
+                    NBTList<NBT> list = new NBTList<>((NBTType<NBT>) valueType, size);
+                    for (int i = 0; i < size; i++) {
+                        list.addTag(readTag(limiter, buffer, valueType));
+                    }
+                    return list;
+                },
+                (buffer, tag) -> {
+                    writeTagType(buffer, tag.getTagsType());
+                    ByteBufHelper.writeInt(buffer, tag.size());
+                    for (NBT value : ((List<NBT>) tag.getTags())) {
+                        writeTag(buffer, value);
+                    }
+                }
+        );
+        registerType(
+                NBTType.COMPOUND, 10,
+                (limiter, buffer) -> {
+                    limiter.increment(48);
+
+                    NBTCompound compound = new NBTCompound();
+                    NBTType<?> valueType;
+                    while ((valueType = readTagType(limiter, buffer)) != NBTType.END) {
+                        String name = readTagName(limiter, buffer);
+                        NBT nbt = readTag(limiter, buffer, valueType);
+                        if (!compound.getTags().containsKey(name)) limiter.increment(36);
+                        compound.setTag(name, nbt);
+                    }
+                    return compound;
+                },
+                (buffer, tag) -> {
+                    byte[] rawTags = tag instanceof LazyNBTCompound ? ((LazyNBTCompound) tag).getRawTags() : null;
+                    if (rawTags != null) {
+                        ByteBufHelper.writeBytes(buffer, rawTags);
+                        return;
+                    }
+                    for (Entry<String, NBT> entry : tag.getTags().entrySet()) {
+                        NBT value = entry.getValue();
+                        writeTagType(buffer, value.getType());
+                        writeTagName(buffer, entry.getKey());
+                        writeTag(buffer, value);
+                    }
+                    writeTagType(buffer, NBTType.END);
+                }
+        );
+        registerType(
+                NBTType.INT_ARRAY, 11,
+                (limiter, buffer) -> {
+                    limiter.increment(24);
+                    int length = ByteBufHelper.readInt(buffer);
+
+                    if (length >= 1 << 24)
+                        throw new IllegalArgumentException("Int array length is too large: " + length);
+
+                    limiter.checkReadability(length * 4);
+                    limiter.increment(length * 4);
+
+                    int[] array = new int[length];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = ByteBufHelper.readInt(buffer);
+                    }
+                    return new NBTIntArray(array);
+                },
+                (buffer, tag) -> {
+                    int[] array = tag.getValue();
+                    ByteBufHelper.writeInt(buffer, array.length);
+                    for (int i : array) {
+                        ByteBufHelper.writeInt(buffer, i);
+                    }
+                }
+        );
+        registerType(
+                NBTType.LONG_ARRAY, 12,
+                (limiter, buffer) -> {
+                    limiter.increment(24);
+                    int length = ByteBufHelper.readInt(buffer);
+
+                    if (length >= 1 << 24)
+                        throw new IllegalArgumentException("Long array length is too large: " + length);
+
+                    limiter.checkReadability(length * 8);
+                    limiter.increment(length * 8);
+
+                    long[] array = new long[length];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = ByteBufHelper.readLong(buffer);
+                    }
+                    return new NBTLongArray(array);
+                },
+                (buffer, tag) -> {
+                    long[] array = tag.getValue();
+                    ByteBufHelper.writeInt(buffer, array.length);
+                    for (long i : array) {
+                        ByteBufHelper.writeLong(buffer, i);
+                    }
+                }
+        );
+    }
+
+    /**
+     * Reads a tag like {@link #deserializeTag(NBTLimiter, Object, boolean)}, but a compound is only skipped
+     * and returned as a {@link LazyNBTCompound}, which is parsed once it is accessed.
+     */
+    public NBT deserializeTagLazily(NBTLimiter limiter, Object buffer, boolean named) throws IOException {
+        NBTType<?> type = readTagType(limiter, buffer);
+        if (type == NBTType.END) {
+            return null;
+        }
+        if (named) {
+            readTagName(limiter, buffer);
+        }
+        if (type != NBTType.COMPOUND) {
+            return readTag(limiter, buffer, type);
+        }
+        int start = ByteBufHelper.readerIndex(buffer);
+        skipTag(limiter, buffer, type);
+        byte[] rawTags = new byte[ByteBufHelper.readerIndex(buffer) - start];
+        ByteBufHelper.getBytes(buffer, start, rawTags);
+        return new LazyNBTCompound(rawTags);
+    }
+
+    /**
+     * Reads the tags of a compound, without the type and name of the compound itself.
+     */
+    public NBTCompound readCompound(NBTLimiter limiter, Object buffer) throws IOException {
+        return (NBTCompound) readTag(limiter, buffer, NBTType.COMPOUND);
+    }
+
+    /**
+     * Skips a tag, applying the same limits as reading it does.
+     * Strings are accounted for by their encoded length, as they aren't decoded.
+     */
+    public void skipTag(NBTLimiter limiter, Object buffer, NBTType<?> type) throws IOException {
+        if (type == NBTType.END) {
+            limiter.increment(8);
+        } else if (type == NBTType.BYTE) {
+            limiter.increment(9);
+            ByteBufHelper.skipBytes(buffer, Byte.BYTES);
+        } else if (type == NBTType.SHORT) {
+            limiter.increment(10);
+            ByteBufHelper.skipBytes(buffer, Short.BYTES);
+        } else if (type == NBTType.INT || type == NBTType.FLOAT) {
+            limiter.increment(12);
+            ByteBufHelper.skipBytes(buffer, Integer.BYTES);
+        } else if (type == NBTType.LONG || type == NBTType.DOUBLE) {
+            limiter.increment(16);
+            ByteBufHelper.skipBytes(buffer, Long.BYTES);
+        } else if (type == NBTType.STRING) {
+            limiter.increment(36);
+            int length = ByteBufHelper.readUnsignedShort(buffer);
+            limiter.increment(length * 2);
+            ByteBufHelper.skipBytes(buffer, length);
+        } else if (type == NBTType.LIST) {
+            limiter.increment(37);
+            NBTType<?> valueType = readTagType(limiter, buffer);
+            int size = ByteBufHelper.readInt(buffer);
+            if ((valueType == NBTType.END) && (size > 0)) {
+                throw new IllegalStateException("Missing nbt list values tag type");
+            }
+            limiter.increment(4 * size);
+            for (int i = 0; i < size; i++) {
+                skipTag(limiter, buffer, valueType);
+            }
+        } else if (type == NBTType.COMPOUND) {
+            limiter.increment(48);
+            NBTType<?> valueType;
+            while ((valueType = readTagType(limiter, buffer)) != NBTType.END) {
+                int nameLength = ByteBufHelper.readUnsignedShort(buffer);
+                limiter.increment(nameLength * 2 + 28);
+                ByteBufHelper.skipBytes(buffer, nameLength);
+                skipTag(limiter, buffer, valueType);
+                limiter.increment(36);
+            }
+        } else if (type == NBTType.BYTE_ARRAY || type == NBTType.INT_ARRAY || type == NBTType.LONG_ARRAY) {
+            limiter.increment(24);
+            int length = ByteBufHelper.readInt(buffer);
+            if (length >= 1 << 24) {
+                throw new IllegalArgumentException("Array length is too large: " + length);
+            }
+            int width = type == NBTType.BYTE_ARRAY ? Byte.BYTES : type == NBTType.INT_ARRAY ? Integer.BYTES : Long.BYTES;
+            limiter.checkReadability(length * width);
+            limiter.increment(length * width);
+            ByteBufHelper.skipBytes(buffer, length * width);
+        } else {
+            throw new IOException(MessageFormat.format("No reader registered for nbt type {0}", type));
+        }
+    }
+
+    /**
+     * Reads a string in the modified UTF-8 format of {@link java.io.DataInput#readUTF()}.
+     */
+    public static String readUTF(Object buffer) throws UTFDataFormatException {
+        return readUTF(buffer, ByteBufHelper.readUnsignedShort(buffer));
+    }
+
+    static String readUTF(Object buffer, int length) throws UTFDataFormatException {
+        byte[] bytes = new byte[length];
+        ByteBufHelper.readBytes(buffer, bytes);
+
+        char[] chars = new char[length];
+        int count = 0;
+        int index = 0;
+        // Most strings are plain ascii
+        while (index < length && bytes[index] > 0) {
+            chars[count++] = (char) bytes[index++];
+        }
+        while (index < length) {
+            int b = bytes[index] & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+                index++;
+            } else if ((b & 0xE0) == 0xC0) {
+                if (index + 1 >= length) {
+                    throw new UTFDataFormatException("malformed input: partial character at end");
+                }
+                int b2 = bytes[index + 1];
+                if ((b2 & 0xC0) != 0x80) {
+                    throw new UTFDataFormatException("malformed input around byte " + (index + 1));
+                }
+                chars[count++] = (char) ((b & 0x1F) << 6 | b2 & 0x3F);
+                index += 2;
+            } else if ((b & 0xF0) == 0xE0) {
+                if (index + 2 >= length) {
+                    throw new UTFDataFormatException("malformed input: partial character at end");
+                }
+                int b2 = bytes[index + 1];
+                int b3 = bytes[index + 2];
+                if ((b2 & 0xC0) != 0x80 || (b3 & 0xC0) != 0x80) {
+                    throw new UTFDataFormatException("malformed input around byte " + (index + 2));
+                }
+                chars[count++] = (char) ((b & 0x0F) << 12 | (b2 & 0x3F) << 6 | b3 & 0x3F);
+                index += 3;
+            } else {
+                throw new UTFDataFormatException("malformed input around byte " + index);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Writes a string in the modified UTF-8 format of {@link java.io.DataOutput#writeUTF(String)}.
+     */
+    public static void writeUTF(Object buffer, String string) throws UTFDataFormatException {
+        int length = string.length();
+        int utfLength = length;
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c >= 0x800) {
+                utfLength += 2;
+            } else if (c >= 0x80 || c == 0) {
+                utfLength++;
+            }
+        }
+        if (utfLength > 0xFFFF) {
+            throw new UTFDataFormatException("encoded string too long: " + utfLength + " bytes");
+        }
+
+        byte[] bytes = new byte[utfLength];
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c != 0 && c < 0x80) {
+                bytes[index++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[index++] = (byte) (0xC0 | c >> 6 & 0x1F);
+                bytes[index++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                bytes[index++] = (byte) (0xE0 | c >> 12 & 0x0F);
+                bytes[index++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[index++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        ByteBufHelper.writeShort(buffer, utfLength);
+        ByteBufHelper.writeBytes(buffer, bytes);
+    }
+}
@@ -38,7 +38,7 @@ public class DefaultNBTSerializer extends NBTSerializer<DataInput, DataOutput> {
                 },
                 DataOutput::writeByte,
                 (limiter, dataInput) -> {
-                    String name = dataInput.readUTF();
+                    String name = NBTNamePool.intern(dataInput.readUTF());
                     limiter.increment(name.length() * 2 + 28);
                     return name;
                 },
@@ -143,6 +143,11 @@ public class DefaultNBTSerializer extends NBTSerializer<DataInput, DataOutput> {
                     return compound;
                 },
                 (stream, tag) -> {
+                    byte[] rawTags = tag instanceof LazyNBTCompound ? ((LazyNBTCompound) tag).getRawTags() : null;
+                    if (rawTags != null) {
+                        stream.write(rawTags);
+                        return;
+                    }
                     for (Entry<String, NBT> entry : tag.getTags().entrySet()) {
                         NBT value = entry.getValue();
                         writeTagType(stream, value.getType());
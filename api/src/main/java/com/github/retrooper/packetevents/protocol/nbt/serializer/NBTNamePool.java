@@ -0,0 +1,98 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.nbt.serializer;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bounded pool of tag names. Compounds of the same kind repeat the same few names, such as "id" or "text",
+ * so these are shared instead of keeping a new string for every compound read.
+ */
+final class NBTNamePool {
+
+    private static final int MAX_LENGTH = 32;
+    // Racy accesses are fine, strings are immutable and a lost update only means a name isn't pooled
+    private static final String[] NAMES = new String[1024];
+
+    private NBTNamePool() {
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ hash >>> 16) & (NAMES.length - 1);
+    }
+
+    static String intern(String name) {
+        if (name.length() > MAX_LENGTH) {
+            return name;
+        }
+        int slot = slot(name.hashCode());
+        String pooled = NAMES[slot];
+        if (name.equals(pooled)) {
+            return pooled;
+        }
+        NAMES[slot] = name;
+        return name;
+    }
+
+    /**
+     * Reads a name in the modified UTF-8 format, reusing the pooled name without allocating if there is one.
+     */
+    static String read(Object buffer) throws UTFDataFormatException {
+        int length = ByteBufHelper.readUnsignedShort(buffer);
+        if (length > MAX_LENGTH) {
+            return ByteBufNBTSerializer.readUTF(buffer, length);
+        }
+
+        int start = ByteBufHelper.readerIndex(buffer);
+        // Same as String#hashCode, as plain ascii characters are encoded as a single byte
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            int b = ByteBufHelper.getUnsignedByte(buffer, start + i);
+            if (b == 0 || b >= 0x80) {
+                return intern(ByteBufNBTSerializer.readUTF(buffer, length));
+            }
+            hash = 31 * hash + b;
+        }
+        int slot = slot(hash);
+        String pooled = NAMES[slot];
+        if (pooled != null && matches(pooled, buffer, start, length)) {
+            ByteBufHelper.skipBytes(buffer, length);
+            return pooled;
+        }
+        String name = ByteBufHelper.toString(buffer, start, length, StandardCharsets.US_ASCII);
+        ByteBufHelper.skipBytes(buffer, length);
+        NAMES[slot] = name;
+        return name;
+    }
+
+    private static boolean matches(String name, Object buffer, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != ByteBufHelper.getUnsignedByte(buffer, start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -89,7 +89,7 @@ public class NBTSerializer<IN, OUT> implements NBTReader<NBT, IN>, NBTWriter<NBT
         typeWriters.put(type, typeWriter);
     }
 
-    NBTType<?> readTagType(NBTLimiter limiter, IN from) throws IOException {
+    public NBTType<?> readTagType(NBTLimiter limiter, IN from) throws IOException {
         int id = idReader.readId(limiter, from);
         NBTType<?> type = idToType.get(id);
         if (type == null) {
@@ -98,11 +98,11 @@ public class NBTSerializer<IN, OUT> implements NBTReader<NBT, IN>, NBTWriter<NBT
         return type;
     }
 
-    String readTagName(NBTLimiter limiter, IN from) throws IOException {
+    public String readTagName(NBTLimiter limiter, IN from) throws IOException {
         return nameReader.readName(limiter, from);
     }
 
-    NBT readTag(NBTLimiter limiter, IN from, NBTType<?> type) throws IOException {
+    public NBT readTag(NBTLimiter limiter, IN from, NBTType<?> type) throws IOException {
         TagReader<IN, ? extends NBT> f = typeReaders.get(type);
         if (f == null) {
             throw new IOException(MessageFormat.format("No reader registered for nbt type {0}", type));
@@ -110,7 +110,7 @@ public class NBTSerializer<IN, OUT> implements NBTReader<NBT, IN>, NBTWriter<NBT
         return f.readTag(limiter, from);
     }
 
-    void writeTagType(OUT stream, NBTType<?> type) throws IOException {
+    public void writeTagType(OUT stream, NBTType<?> type) throws IOException {
         int id = typeToId.getOrDefault(type, -1);
         if (id == -1) {
             throw new IOException(MessageFormat.format("Unknown nbt type {0}", type));
@@ -118,12 +118,12 @@ public class NBTSerializer<IN, OUT> implements NBTReader<NBT, IN>, NBTWriter<NBT
         idWriter.writeId(stream, id);
     }
 
-    void writeTagName(OUT stream, String name) throws IOException {
+    public void writeTagName(OUT stream, String name) throws IOException {
         nameWriter.writeName(stream, name);
     }
 
     @SuppressWarnings("unchecked")
-    void writeTag(OUT stream, NBT tag) throws IOException {
+    public void writeTag(OUT stream, NBT tag) throws IOException {
         TagWriter<OUT, NBT> f = (TagWriter<OUT, NBT>) typeWriters.get(tag.getType());
         if (f == null) {
             throw new IOException(MessageFormat.format("No writer registered for nbt type {0}", tag.getType()));
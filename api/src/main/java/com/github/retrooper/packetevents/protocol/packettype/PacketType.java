@@ -76,8 +76,6 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 public final class PacketType {
 
@@ -443,7 +441,9 @@ public final class PacketType {
             SELECT_KNOWN_PACKS;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // Packet types by version index and packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE =
+                    new PacketTypeCommon[SERVERBOUND_CONFIG_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
 
             Client() {
@@ -460,13 +460,14 @@ public final class PacketType {
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] packetTypes = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Configuration.Client value = Configuration.Client.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    packetTypes[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = packetTypes;
                 INDEX++;
             }
 
@@ -478,9 +479,8 @@ public final class PacketType {
                 if (!PREPARED) {
                     PacketType.prepare();
                 }
-                int index = SERVERBOUND_CONFIG_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> map = PACKET_TYPE_ID_MAP.get((byte) index);
-                return map.get(packetId);
+                PacketTypeCommon[] packetTypes = PACKET_TYPE_ID_TABLE[SERVERBOUND_CONFIG_VERSION_MAPPER.getIndex(version)];
+                return packetId >= 0 && packetId < packetTypes.length ? packetTypes[packetId] : null;
             }
 
             @Deprecated
@@ -530,7 +530,9 @@ public final class PacketType {
             SERVER_LINKS;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // Packet types by version index and packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE =
+                    new PacketTypeCommon[CLIENTBOUND_CONFIG_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
 
             Server() {
@@ -549,13 +551,14 @@ public final class PacketType {
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] packetTypes = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Configuration.Server value = Configuration.Server.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    packetTypes[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = packetTypes;
                 INDEX++;
             }
 
@@ -567,9 +570,8 @@ public final class PacketType {
                 if (!PREPARED) {
                     PacketType.prepare();
                 }
-                int index = CLIENTBOUND_CONFIG_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> map = PACKET_TYPE_ID_MAP.get((byte) index);
-                return map.get(packetId);
+                PacketTypeCommon[] packetTypes = PACKET_TYPE_ID_TABLE[CLIENTBOUND_CONFIG_VERSION_MAPPER.getIndex(version)];
+                return packetId >= 0 && packetId < packetTypes.length ? packetTypes[packetId] : null;
             }
 
             @Deprecated
@@ -733,7 +735,9 @@ public final class PacketType {
             ;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // Packet types by version index and packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE =
+                    new PacketTypeCommon[SERVERBOUND_PLAY_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
 
             Client() {
@@ -746,21 +750,20 @@ public final class PacketType {
                 if (!PREPARED) {
                     PacketType.prepare();
                 }
-                int index = SERVERBOUND_PLAY_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                return packetIdMap.get(packetId);
+                PacketTypeCommon[] packetTypes = PACKET_TYPE_ID_TABLE[SERVERBOUND_PLAY_VERSION_MAPPER.getIndex(version)];
+                return packetId >= 0 && packetId < packetTypes.length ? packetTypes[packetId] : null;
             }
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] packetTypes = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Client value = Client.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index,
-                            k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    packetTypes[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = packetTypes;
                 INDEX++;
             }
 
@@ -983,7 +986,9 @@ public final class PacketType {
             ;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // Packet types by version index and packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE =
+                    new PacketTypeCommon[CLIENTBOUND_PLAY_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
 
             Server() {
@@ -1004,9 +1009,8 @@ public final class PacketType {
                 if (!PREPARED) {
                     PacketType.prepare();
                 }
-                int index = CLIENTBOUND_PLAY_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> map = PACKET_TYPE_ID_MAP.get((byte) index);
-                return map.get(packetId);
+                PacketTypeCommon[] packetTypes = PACKET_TYPE_ID_TABLE[CLIENTBOUND_PLAY_VERSION_MAPPER.getIndex(version)];
+                return packetId >= 0 && packetId < packetTypes.length ? packetTypes[packetId] : null;
             }
 
             @Override
@@ -1016,13 +1020,14 @@ public final class PacketType {
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] packetTypes = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Server value = Server.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    packetTypes[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = packetTypes;
                 INDEX++;
             }
 
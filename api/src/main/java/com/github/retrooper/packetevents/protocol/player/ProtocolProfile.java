@@ -0,0 +1,87 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.player;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Version dependent data of a protocol version, resolved once and shared
+ * by all users and wrappers on that version.
+ *
+ * @see User#getProtocolProfile()
+ */
+public final class ProtocolProfile {
+
+    private static final int MODERN_MESSAGE_LENGTH = 262144;
+    private static final int LEGACY_MESSAGE_LENGTH = 32767;
+
+    private static final ProtocolProfile[] PROFILES;
+
+    static {
+        ClientVersion[] versions = ClientVersion.values();
+        PROFILES = new ProtocolProfile[versions.length];
+        for (ClientVersion version : versions) {
+            PROFILES[version.ordinal()] = new ProtocolProfile(version);
+        }
+    }
+
+    private final ClientVersion clientVersion;
+    private final @Nullable ServerVersion serverVersion;
+    private final int maxMessageLength;
+
+    private ProtocolProfile(ClientVersion clientVersion) {
+        this.clientVersion = clientVersion;
+        this.serverVersion = clientVersion.toServerVersion();
+        this.maxMessageLength = clientVersion.isNewerThanOrEquals(ClientVersion.V_1_13)
+                ? MODERN_MESSAGE_LENGTH : LEGACY_MESSAGE_LENGTH;
+    }
+
+    public static ProtocolProfile of(ClientVersion version) {
+        return PROFILES[version.ordinal()];
+    }
+
+    public ClientVersion getClientVersion() {
+        return this.clientVersion;
+    }
+
+    /**
+     * @return The server version with the same protocol version, or null if there is none
+     */
+    public @Nullable ServerVersion getServerVersion() {
+        return this.serverVersion;
+    }
+
+    public int getMaxMessageLength() {
+        return this.maxMessageLength;
+    }
+
+    public @Nullable PacketTypeCommon getPacketType(PacketSide side, ConnectionState state, int packetId) {
+        return PacketType.getById(side, state, this.clientVersion, packetId);
+    }
+
+    @Override
+    public String toString() {
+        return "ProtocolProfile[" + this.clientVersion.getReleaseName() + ']';
+    }
+}
@@ -19,7 +19,9 @@
 package com.github.retrooper.packetevents.protocol.player;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.manager.protocol.ProtocolManager;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.netty.channel.ChannelHelper;
 import com.github.retrooper.packetevents.protocol.ConnectionState;
 import com.github.retrooper.packetevents.protocol.chat.ChatType;
@@ -51,7 +53,10 @@ import org.jetbrains.annotations.Nullable;
 import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class User implements IRegistryHolder {
 
@@ -59,11 +64,14 @@ public class User implements IRegistryHolder {
     private ConnectionState decoderState;
     private ConnectionState encoderState;
     private ClientVersion clientVersion;
+    private @Nullable ProtocolProfile protocolProfile;
     private final UserProfile profile;
     private int entityId = -1;
 
     private DimensionType dimensionType = DimensionTypes.OVERWORLD;
     private final Map<ResourceLocation, IRegistry<?>> registries = new HashMap<>();
+    private final Queue<Object> queuedPackets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean awaitingDrain = new AtomicBoolean();
 
     public User(Object channel,
                 ConnectionState connectionState, ClientVersion clientVersion,
@@ -72,6 +80,7 @@ public class User implements IRegistryHolder {
         this.decoderState = connectionState;
         this.encoderState = connectionState;
         this.clientVersion = clientVersion;
+        this.protocolProfile = clientVersion != null ? ProtocolProfile.of(clientVersion) : null;
         this.profile = profile;
     }
 
@@ -134,6 +143,14 @@ public class User implements IRegistryHolder {
 
     public void setClientVersion(ClientVersion clientVersion) {
         this.clientVersion = clientVersion;
+        this.protocolProfile = clientVersion != null ? ProtocolProfile.of(clientVersion) : null;
+    }
+
+    /**
+     * @return The cached protocol profile of the client version, or null if the version is not known yet
+     */
+    public @Nullable ProtocolProfile getProtocolProfile() {
+        return protocolProfile;
     }
 
     public UserProfile getProfile() {
@@ -157,35 +174,35 @@ public class User implements IRegistryHolder {
     }
 
     public void sendPacket(Object buffer) {
-        PacketEvents.getAPI().getProtocolManager().sendPacket(channel, buffer);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().sendPacket(channel, buffer));
     }
 
     public void sendPacket(PacketWrapper<?> wrapper) {
-        PacketEvents.getAPI().getProtocolManager().sendPacket(channel, wrapper);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().sendPacket(channel, wrapper));
     }
 
     public void sendPacketSilently(Object buffer) {
-        PacketEvents.getAPI().getProtocolManager().sendPacketSilently(channel, buffer);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().sendPacketSilently(channel, buffer));
     }
 
     public void sendPacketSilently(PacketWrapper<?> wrapper) {
-        PacketEvents.getAPI().getProtocolManager().sendPacketSilently(channel, wrapper);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().sendPacketSilently(channel, wrapper));
     }
 
     public void writePacket(Object buffer) {
-        PacketEvents.getAPI().getProtocolManager().writePacket(channel, buffer);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().writePacket(channel, buffer));
     }
 
     public void writePacket(PacketWrapper<?> wrapper) {
-        PacketEvents.getAPI().getProtocolManager().writePacket(channel, wrapper);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().writePacket(channel, wrapper));
     }
 
     public void writePacketSilently(Object buffer) {
-        PacketEvents.getAPI().getProtocolManager().writePacketSilently(channel, buffer);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().writePacketSilently(channel, buffer));
     }
 
     public void writePacketSilently(PacketWrapper<?> wrapper) {
-        PacketEvents.getAPI().getProtocolManager().writePacketSilently(channel, wrapper);
+        runAfterQueuedPackets(() -> PacketEvents.getAPI().getProtocolManager().writePacketSilently(channel, wrapper));
     }
 
     public void receivePacket(Object buffer) {
@@ -208,6 +225,84 @@ public class User implements IRegistryHolder {
         ChannelHelper.flush(channel);
     }
 
+    /**
+     * Queues a packet to be sent with the next drain of the packet queue.
+     * All packets queued in between two drains are written in a single event loop task and flushed once,
+     * instead of scheduling a task and a flush for every packet.
+     * Paper drains the queue at the end of every tick, Spigot, Folia and Sponge at the start of the next tick,
+     * otherwise {@link ProtocolManager#drainPacketQueues()} has to be called manually.
+     * Packets sent or written through this user right away drain the queue first,
+     * so they never overtake packets queued before them.
+     * Packets sent through the {@link ProtocolManager} directly do not keep that order.
+     *
+     * @param buffer The packet buffer
+     */
+    public void queuePacket(Object buffer) {
+        queuedPackets.add(buffer);
+        if (awaitingDrain.compareAndSet(false, true)) {
+            ProtocolManager.QUEUED_USERS.add(this);
+        }
+    }
+
+    /**
+     * Encodes the wrapper right away and queues the resulting packets.
+     *
+     * @param wrapper The packet wrapper
+     * @see #queuePacket(Object)
+     */
+    public void queuePacket(PacketWrapper<?> wrapper) {
+        Object[] buffers = PacketEvents.getAPI().getProtocolManager().transformWrappers(wrapper, channel, true);
+        for (Object buffer : buffers) {
+            queuePacket(buffer);
+        }
+    }
+
+    /**
+     * Writes all queued packets in the event loop of the channel, followed by a single flush.
+     */
+    public void drainPacketQueue() {
+        awaitingDrain.set(false);
+        if (queuedPackets.isEmpty()) {
+            return;
+        }
+        ChannelHelper.runInEventLoop(channel, this::writeQueuedPackets);
+    }
+
+    // Has to run in the event loop of the channel
+    private void writeQueuedPackets() {
+        boolean open = ChannelHelper.isOpen(channel);
+        Object buffer;
+        while ((buffer = queuedPackets.poll()) != null) {
+            if (open) {
+                ChannelHelper.write(channel, buffer);
+            } else {
+                ByteBufHelper.release(buffer);
+            }
+        }
+        if (open) {
+            ChannelHelper.flush(channel);
+        }
+    }
+
+    /**
+     * Runs the action after writing all queued packets.
+     * In the event loop the queue is written right away, since a pending drain task would only run after the action.
+     * Elsewhere the action runs in the same event loop task as the queue.
+     */
+    private void runAfterQueuedPackets(Runnable action) {
+        if (queuedPackets.isEmpty()) {
+            action.run();
+        } else if (ChannelHelper.inEventLoop(channel)) {
+            writeQueuedPackets();
+            action.run();
+        } else {
+            ChannelHelper.runInEventLoop(channel, () -> {
+                writeQueuedPackets();
+                action.run();
+            });
+        }
+    }
+
     public void closeConnection() {
         ChannelHelper.close(channel);
     }
@@ -63,6 +63,13 @@ public interface BaseChunk {
 
     boolean isEmpty();
 
+    /**
+     * @return An independent copy of this chunk section
+     */
+    default BaseChunk copy() {
+        throw new UnsupportedOperationException("Chunk sections of type " + getClass().getName() + " can't be copied");
+    }
+
     static BaseChunk create() {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             return new Chunk_v1_18();
@@ -35,6 +35,10 @@ public class ByteArray3d {
         return this.data;
     }
 
+    public ByteArray3d copy() {
+        return new ByteArray3d(this.data.clone());
+    }
+
     public int get(int x, int y, int z) {
         return this.data[y << 8 | z << 4 | x] & 0xFF;
     }
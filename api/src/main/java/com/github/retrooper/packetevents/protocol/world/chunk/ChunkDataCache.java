@@ -0,0 +1,295 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.retrooper.packetevents.protocol.world.chunk;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.world.dimension.DimensionType;
+import com.github.retrooper.packetevents.util.StripedLruCache;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of chunk data packets, shared by all viewers of a chunk.
+ * <p>
+ * For every chunk, the cache keeps the last payload the server sent and the results of handling it,
+ * one per client version: the column as the listeners left it and the packet as it was written.
+ * Other viewers receiving the same payload take the result instead of parsing and encoding the packet again.
+ * Payloads are matched by their hash first and by their bytes after, so a payload never takes the result of another.
+ * Block changes drop the results of their chunk.
+ *
+ * @see com.github.retrooper.packetevents.settings.PacketEventsSettings#chunkDataCacheSize(int)
+ */
+public final class ChunkDataCache {
+
+    private static final StripedLruCache<Position, Entry> CACHE = new StripedLruCache<>(16);
+
+    private ChunkDataCache() {
+    }
+
+    /**
+     * @param dimension The dimension of the viewer
+     * @param version   The client version of the viewer
+     * @param buffer    The buffer holding the payload, its reader index is not moved
+     * @param index     The index of the payload, which starts with the chunk coordinates
+     * @param length    The length of the payload
+     * @param hash      The {@link #hash(Object, int, int) hash} of the payload
+     * @return The result of handling the same payload for an earlier viewer
+     */
+    @ApiStatus.Internal
+    public static @Nullable Result get(DimensionType dimension, ClientVersion version,
+                                       Object buffer, int index, int length, long hash) {
+        if (length < 2 * Integer.BYTES) {
+            return null;
+        }
+        Position position = new Position(dimension, ByteBufHelper.getInt(buffer, index),
+                ByteBufHelper.getInt(buffer, index + Integer.BYTES));
+        Entry entry = CACHE.get(position);
+        if (entry == null || !entry.matches(buffer, index, length, hash)) {
+            return null;
+        }
+        return entry.results.get(version);
+    }
+
+    /**
+     * @param payload The payload the result was created from, it must not be modified afterwards
+     * @param hash    The {@link #hash(Object, int, int) hash} of the payload
+     */
+    @ApiStatus.Internal
+    public static void put(DimensionType dimension, ClientVersion version, byte[] payload, long hash,
+                           Result result, int maxSize) {
+        if (payload.length < 2 * Integer.BYTES) {
+            return;
+        }
+        Position position = new Position(dimension, readInt(payload, 0), readInt(payload, Integer.BYTES));
+        Entry entry = CACHE.get(position);
+        if (entry != null && entry.matches(payload, hash)) {
+            entry.results.put(version, result);
+            return;
+        }
+        // The server sent different data for the chunk, the results of the old data are stale
+        entry = new Entry(payload, hash);
+        entry.results.put(version, result);
+        CACHE.put(position, entry, maxSize);
+    }
+
+    /**
+     * Drops the cached chunk data packets of a chunk.
+     *
+     * @param dimension The dimension of the chunk
+     * @param chunkX    The chunk x coordinate
+     * @param chunkZ    The chunk z coordinate
+     */
+    public static void invalidate(DimensionType dimension, int chunkX, int chunkZ) {
+        CACHE.remove(new Position(dimension, chunkX, chunkZ));
+    }
+
+    /**
+     * Drops all cached chunk data packets.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    /**
+     * Hashes the bytes of a buffer with 64 bits, without moving its reader index.
+     *
+     * @param buffer The buffer
+     * @param index  The index of the first byte
+     * @param length The amount of bytes to hash
+     * @return The hash
+     */
+    @ApiStatus.Internal
+    public static long hash(Object buffer, int index, int length) {
+        long hash = length;
+        int end = index + length;
+        int i = index;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            hash = (hash ^ ByteBufHelper.getLong(buffer, i)) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 29;
+        }
+        for (; i < end; i++) {
+            hash = (hash ^ ByteBufHelper.getUnsignedByte(buffer, i)) * 0x9E3779B97F4A7C15L;
+        }
+        // Final mix, so that every input bit affects all bits of the hash
+        hash ^= hash >>> 32;
+        hash *= 0xD6E8FEB86659FD93L;
+        return hash ^ (hash >>> 32);
+    }
+
+    /**
+     * @return A copy of the light data which shares no arrays with it
+     */
+    @ApiStatus.Internal
+    public static @Nullable LightData copy(@Nullable LightData lightData) {
+        if (lightData == null) {
+            return null;
+        }
+        LightData copy = lightData.clone();
+        copy.setSkyLightArray(copy(lightData.getSkyLightArray()));
+        copy.setBlockLightArray(copy(lightData.getBlockLightArray()));
+        return copy;
+    }
+
+    private static byte[][] copy(byte[][] arrays) {
+        if (arrays == null) {
+            return null;
+        }
+        byte[][] copy = new byte[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            copy[i] = arrays[i] != null ? arrays[i].clone() : null;
+        }
+        return copy;
+    }
+
+    private static int readInt(byte[] bytes, int index) {
+        return (bytes[index] & 0xFF) << 24 | (bytes[index + 1] & 0xFF) << 16
+                | (bytes[index + 2] & 0xFF) << 8 | bytes[index + 3] & 0xFF;
+    }
+
+    /**
+     * The result of handling a chunk data packet for one client version, after all listeners ran.
+     * It is shared by all viewers, so the column and light data must only be handed out as copies.
+     */
+    @ApiStatus.Internal
+    public static final class Result {
+        private final Column column;
+        private final @Nullable LightData lightData;
+        private final boolean ignoreOldData;
+        private final byte[] encoded;
+        private final boolean modified;
+
+        /**
+         * @param column    A column no one else holds on to
+         * @param lightData Light data no one else holds on to
+         * @param encoded   The packet as it was written, without its packet id
+         * @param modified  Whether the written packet differs from the payload
+         */
+        public Result(Column column, @Nullable LightData lightData, boolean ignoreOldData,
+                      byte[] encoded, boolean modified) {
+            this.column = column;
+            this.lightData = lightData;
+            this.ignoreOldData = ignoreOldData;
+            this.encoded = encoded;
+            this.modified = modified;
+        }
+
+        /**
+         * @return A copy of the column, as the listeners left it
+         */
+        public Column copyColumn() {
+            return this.column.copy();
+        }
+
+        /**
+         * @return A copy of the light data, as the listeners left it
+         */
+        public @Nullable LightData copyLightData() {
+            return copy(this.lightData);
+        }
+
+        public boolean isIgnoreOldData() {
+            return this.ignoreOldData;
+        }
+
+        /**
+         * @return The packet as it was written, without its packet id, must not be modified
+         */
+        public byte[] getEncoded() {
+            return this.encoded;
+        }
+
+        /**
+         * @return Whether the written packet differs from the payload, then the packet has to be re-encoded
+         */
+        public boolean isModified() {
+            return this.modified;
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] payload;
+        private final long hash;
+        private final Map<ClientVersion, Result> results = new ConcurrentHashMap<>();
+
+        private Entry(byte[] payload, long hash) {
+            this.payload = payload;
+            this.hash = hash;
+        }
+
+        private boolean matches(byte[] payload, long hash) {
+            return this.hash == hash && Arrays.equals(this.payload, payload);
+        }
+
+        private boolean matches(Object buffer, int index, int length, long hash) {
+            if (this.hash != hash || this.payload.length != length) {
+                return false;
+            }
+            // The hash only rules out different payloads, equal hashes don't rule out collisions
+            byte[] payload = this.payload;
+            int i = 0;
+            for (; i + Long.BYTES <= length; i += Long.BYTES) {
+                if (ByteBufHelper.getLong(buffer, index + i) != readLong(payload, i)) {
+                    return false;
+                }
+            }
+            for (; i < length; i++) {
+                if ((byte) ByteBufHelper.getUnsignedByte(buffer, index + i) != payload[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long readLong(byte[] bytes, int index) {
+            return (long) readInt(bytes, index) << 32 | readInt(bytes, index + Integer.BYTES) & 0xFFFFFFFFL;
+        }
+    }
+
+    private static final class Position {
+        // The dimension decides how the payload is parsed, such as the amount of sections
+        private final DimensionType dimension;
+        private final int chunkX;
+        private final int chunkZ;
+
+        private Position(DimensionType dimension, int chunkX, int chunkZ) {
+            this.dimension = dimension;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Position)) return false;
+            Position position = (Position) obj;
+            return this.chunkX == position.chunkX && this.chunkZ == position.chunkZ
+                    && this.dimension.equals(position.dimension);
+        }
+
+        @Override
+        public int hashCode() {
+            // Hashing the dimension means hashing all of its properties, equal coordinates in other dimensions are rare
+            return 31 * this.chunkX + this.chunkZ;
+        }
+    }
+}
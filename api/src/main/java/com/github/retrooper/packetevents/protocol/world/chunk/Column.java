@@ -113,6 +113,33 @@ public class Column {
         this.biomeDataBytes = biomeDataBytes != null ? Arrays.copyOf(biomeDataBytes, biomeDataBytes.length) : null;
     }
 
+    private Column(Column column) {
+        this.x = column.x;
+        this.z = column.z;
+        this.fullChunk = column.fullChunk;
+        this.chunks = new BaseChunk[column.chunks.length];
+        for (int i = 0; i < this.chunks.length; i++) {
+            BaseChunk chunk = column.chunks[i];
+            this.chunks[i] = chunk != null ? chunk.copy() : null;
+        }
+        this.tileEntities = new TileEntity[column.tileEntities.length];
+        for (int i = 0; i < this.tileEntities.length; i++) {
+            this.tileEntities[i] = column.tileEntities[i].copy();
+        }
+        this.hasHeightMaps = column.hasHeightMaps;
+        this.heightMaps = column.heightMaps != null ? column.heightMaps.copy() : null;
+        this.hasBiomeData = column.hasBiomeData;
+        this.biomeDataInts = column.biomeDataInts != null ? column.biomeDataInts.clone() : null;
+        this.biomeDataBytes = column.biomeDataBytes != null ? column.biomeDataBytes.clone() : null;
+    }
+
+    /**
+     * @return An independent copy of this column, its chunk sections and its tile entities
+     */
+    public Column copy() {
+        return new Column(this);
+    }
+
     public int getX() {
         return x;
     }
@@ -45,6 +45,10 @@ public class NibbleArray3d {
         return data;
     }
 
+    public NibbleArray3d copy() {
+        return new NibbleArray3d(this.data.clone());
+    }
+
     public int get(int x, int y, int z) {
         int key = y << 8 | z << 4 | x;
         int index = key >> 1;
@@ -36,6 +36,10 @@ public class ShortArray3d {
         return this.data;
     }
 
+    public ShortArray3d copy() {
+        return new ShortArray3d(this.data.clone());
+    }
+
     public int get(int x, int y, int z) {
         return this.data[y << 8 | z << 4 | x] & 0xFFFF;
     }
@@ -107,4 +107,11 @@ public class TileEntity {
     public NBTCompound getNBT() {
         return this.data;
     }
+
+    /**
+     * @return An independent copy of this tile entity and its data
+     */
+    public TileEntity copy() {
+        return new TileEntity(this.packedByte, this.y, this.type, this.data.copy());
+    }
 }
@@ -117,6 +117,14 @@ public class Chunk_v1_9 implements BaseChunk {
         return this.blockCount == 0;
     }
 
+    @Override
+    public Chunk_v1_9 copy() {
+        Chunk_v1_9 chunk = new Chunk_v1_9(this.blockCount, this.dataPalette.copy());
+        chunk.blockLight = this.blockLight != null ? this.blockLight.copy() : null;
+        chunk.skyLight = this.skyLight != null ? this.skyLight.copy() : null;
+        return chunk;
+    }
+
     public NibbleArray3d getSkyLight() {
         return this.skyLight;
     }
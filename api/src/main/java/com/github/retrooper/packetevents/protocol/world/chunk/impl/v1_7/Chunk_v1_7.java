@@ -64,6 +64,16 @@ public class Chunk_v1_7 implements BaseChunk {
         return true;
     }
 
+    @Override
+    public Chunk_v1_7 copy() {
+        return new Chunk_v1_7(this.blocks.copy(), copy(this.metadata), copy(this.blocklight),
+                copy(this.skylight), copy(this.extendedBlocks));
+    }
+
+    private static NibbleArray3d copy(NibbleArray3d array) {
+        return array != null ? array.copy() : null;
+    }
+
     public ByteArray3d getBlocks() {
         return this.blocks;
     }
@@ -71,4 +71,10 @@ public class Chunk_v1_8 implements BaseChunk {
 
         return true;
     }
+
+    @Override
+    public Chunk_v1_8 copy() {
+        return new Chunk_v1_8(this.blocks.copy(), this.blocklight != null ? this.blocklight.copy() : null,
+                this.skylight != null ? this.skylight.copy() : null);
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18;
+
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.DataPalette;
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.GlobalPalette;
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.SingletonPalette;
+import com.github.retrooper.packetevents.util.StripedLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of encoded chunk sections, keyed by the content of the section.
+ * Identical sections, such as the repeating layers of a flat world, are encoded only once.
+ * Sections filled with a single block encode to a few bytes and are not worth a lookup, they are never cached.
+ */
+final class ChunkSectionCache {
+
+    private static final StripedLruCache<Key, byte[]> CACHE = new StripedLruCache<>(16);
+
+    private ChunkSectionCache() {
+    }
+
+    static boolean isCacheable(Chunk_v1_18 section) {
+        return !(section.getChunkData().palette instanceof SingletonPalette);
+    }
+
+    static byte @Nullable [] get(Key key) {
+        return CACHE.get(key);
+    }
+
+    static void put(Key key, byte[] encoded, int maxSize) {
+        CACHE.put(key.freeze(), encoded, maxSize);
+    }
+
+    static final class Key {
+        private final int blockCount;
+        private final PaletteKey chunkData;
+        private final PaletteKey biomeData;
+        private final int hash;
+
+        private Key(int blockCount, PaletteKey chunkData, PaletteKey biomeData) {
+            this.blockCount = blockCount;
+            this.chunkData = chunkData;
+            this.biomeData = biomeData;
+            this.hash = 31 * (31 * blockCount + chunkData.hash) + biomeData.hash;
+        }
+
+        /**
+         * Creates a key referencing the live storage of the section, only valid for a lookup.
+         */
+        static Key of(int blockCount, DataPalette chunkData, DataPalette biomeData) {
+            return new Key(blockCount, PaletteKey.of(chunkData), PaletteKey.of(biomeData));
+        }
+
+        private Key freeze() {
+            return new Key(this.blockCount, this.chunkData.freeze(), this.biomeData.freeze());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key key = (Key) obj;
+            return this.hash == key.hash && this.blockCount == key.blockCount
+                    && this.chunkData.equals(key.chunkData) && this.biomeData.equals(key.biomeData);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private static final class PaletteKey {
+        // Bits per entry, 0 for a singleton palette and negated for a global palette
+        private final int format;
+        private final int[] states;
+        private final long[] data;
+        private final int hash;
+
+        private PaletteKey(int format, int[] states, long[] data) {
+            this.format = format;
+            this.states = states;
+            this.data = data;
+            this.hash = 31 * (31 * format + Arrays.hashCode(states)) + hash(data);
+        }
+
+        // Hashes four independent lanes, to not wait on the previous multiplication for every long
+        private static int hash(long[] data) {
+            long hash0 = 0, hash1 = 0, hash2 = 0, hash3 = 0;
+            int i = 0;
+            for (; i + 4 <= data.length; i += 4) {
+                hash0 = 31 * hash0 + data[i];
+                hash1 = 31 * hash1 + data[i + 1];
+                hash2 = 31 * hash2 + data[i + 2];
+                hash3 = 31 * hash3 + data[i + 3];
+            }
+            for (; i < data.length; i++) {
+                hash0 = 31 * hash0 + data[i];
+            }
+            long hash = 31 * (31 * (31 * hash0 + hash1) + hash2) + hash3;
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        static PaletteKey of(DataPalette palette) {
+            if (palette.palette instanceof SingletonPalette) {
+                return new PaletteKey(0, new int[]{palette.palette.idToState(0)}, new long[0]);
+            }
+            int bitsPerEntry = palette.storage.getBitsPerEntry();
+            if (palette.palette instanceof GlobalPalette) {
+                return new PaletteKey(-bitsPerEntry, new int[0], palette.storage.getData());
+            }
+            int[] states = new int[palette.palette.size()];
+            for (int id = 0; id < states.length; id++) {
+                states[id] = palette.palette.idToState(id);
+            }
+            return new PaletteKey(bitsPerEntry, states, palette.storage.getData());
+        }
+
+        private PaletteKey freeze() {
+            return new PaletteKey(this.format, this.states, this.data.clone());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof PaletteKey)) return false;
+            PaletteKey key = (PaletteKey) obj;
+            return this.hash == key.hash && this.format == key.format
+                    && Arrays.equals(this.states, key.states) && Arrays.equals(this.data, key.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
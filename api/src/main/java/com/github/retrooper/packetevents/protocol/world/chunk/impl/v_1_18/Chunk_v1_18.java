@@ -18,6 +18,9 @@
 
 package com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18;
 
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamOutput;
@@ -25,16 +28,18 @@ import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
 import com.github.retrooper.packetevents.protocol.world.chunk.palette.DataPalette;
 import com.github.retrooper.packetevents.protocol.world.chunk.palette.PaletteType;
 import com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class Chunk_v1_18 implements BaseChunk {
     private static final int AIR = 0;
 
     private int blockCount;
-    private @NotNull
-    final DataPalette chunkData;
-    private @NotNull
-    final DataPalette biomeData;
+    private DataPalette chunkData;
+    private DataPalette biomeData;
+    // The encoded palettes of a lazily read section, null once they have been decoded
+    private byte @Nullable [] encodedPalettes;
 
     public Chunk_v1_18() {
         this(0, DataPalette.createForChunk(), DataPalette.createForBiome());
@@ -46,6 +51,11 @@ public class Chunk_v1_18 implements BaseChunk {
         this.biomeData = biomeData;
     }
 
+    private Chunk_v1_18(int blockCount, byte[] encodedPalettes) {
+        this.blockCount = blockCount;
+        this.encodedPalettes = encodedPalettes;
+    }
+
     public static Chunk_v1_18 read(NetStreamInput in)  {
         int blockCount = in.readShort();
 
@@ -54,19 +64,123 @@ public class Chunk_v1_18 implements BaseChunk {
         return new Chunk_v1_18(blockCount, chunkPalette, biomePalette);
     }
 
+    public static Chunk_v1_18 read(PacketWrapper<?> wrapper) {
+        int blockCount = wrapper.readShort();
+
+        DataPalette chunkPalette = DataPalette.read(wrapper, PaletteType.CHUNK);
+        DataPalette biomePalette = DataPalette.read(wrapper, PaletteType.BIOME);
+        return new Chunk_v1_18(blockCount, chunkPalette, biomePalette);
+    }
+
+    /**
+     * Reads the section without decoding its palettes. The encoded palettes are only decoded once
+     * the section data is accessed, and are written back as they are if that never happens.
+     */
+    public static Chunk_v1_18 readLazily(PacketWrapper<?> wrapper) {
+        int blockCount = wrapper.readShort();
+
+        Object buffer = wrapper.getBuffer();
+        int start = ByteBufHelper.readerIndex(buffer);
+        DataPalette.skip(wrapper, PaletteType.CHUNK);
+        DataPalette.skip(wrapper, PaletteType.BIOME);
+        byte[] encodedPalettes = new byte[ByteBufHelper.readerIndex(buffer) - start];
+        ByteBufHelper.getBytes(buffer, start, encodedPalettes);
+        return new Chunk_v1_18(blockCount, encodedPalettes);
+    }
+
     public static void write(NetStreamOutput out, Chunk_v1_18 section)  {
         out.writeShort(section.blockCount);
+        if (section.encodedPalettes != null) {
+            out.writeBytes(section.encodedPalettes);
+            return;
+        }
         DataPalette.write(out, section.chunkData);
         DataPalette.write(out, section.biomeData);
     }
 
+    /**
+     * @return The amount of bytes the section takes up when written
+     */
+    public static int getSerializedSize(Chunk_v1_18 section) {
+        if (section.encodedPalettes != null) {
+            return Short.BYTES + section.encodedPalettes.length;
+        }
+        return Short.BYTES + DataPalette.getSerializedSize(section.chunkData)
+                + DataPalette.getSerializedSize(section.biomeData);
+    }
+
+    public static void write(PacketWrapper<?> wrapper, Chunk_v1_18 section) {
+        if (section.encodedPalettes != null) {
+            wrapper.writeShort(section.blockCount);
+            wrapper.writeBytes(section.encodedPalettes);
+            return;
+        }
+
+        int cacheSize = PacketEvents.getAPI() != null ? PacketEvents.getAPI().getSettings().getChunkSectionCacheSize() : 0;
+        if (cacheSize <= 0 || !ChunkSectionCache.isCacheable(section)) {
+            writeSection(wrapper, section);
+            return;
+        }
+        ChunkSectionCache.Key key = ChunkSectionCache.Key.of(section.blockCount, section.chunkData, section.biomeData);
+        byte[] encoded = ChunkSectionCache.get(key);
+        if (encoded != null) {
+            wrapper.writeBytes(encoded);
+            return;
+        }
+        Object buffer = wrapper.getBuffer();
+        int start = ByteBufHelper.writerIndex(buffer);
+        writeSection(wrapper, section);
+        encoded = new byte[ByteBufHelper.writerIndex(buffer) - start];
+        ByteBufHelper.getBytes(buffer, start, encoded);
+        ChunkSectionCache.put(key, encoded, cacheSize);
+    }
+
+    private static void writeSection(PacketWrapper<?> wrapper, Chunk_v1_18 section) {
+        wrapper.writeShort(section.blockCount);
+        DataPalette.write(wrapper, section.chunkData);
+        DataPalette.write(wrapper, section.biomeData);
+    }
+
+    private void decode() {
+        if (this.encodedPalettes == null) {
+            return;
+        }
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(this.encodedPalettes);
+        try {
+            PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(buffer);
+            this.chunkData = DataPalette.read(wrapper, PaletteType.CHUNK);
+            this.biomeData = DataPalette.read(wrapper, PaletteType.BIOME);
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+        this.encodedPalettes = null;
+    }
+
+    @Override
+    public Chunk_v1_18 copy() {
+        if (this.encodedPalettes != null) {
+            // The encoded palettes are never modified, only replaced once decoded
+            return new Chunk_v1_18(this.blockCount, this.encodedPalettes);
+        }
+        return new Chunk_v1_18(this.blockCount, this.chunkData.copy(), this.biomeData.copy());
+    }
+
+    /**
+     * @return Whether the palettes of this section have been decoded
+     */
+    public boolean isDecoded() {
+        return this.encodedPalettes == null;
+    }
+
     @Override
     public int getBlockId(int x, int y, int z) {
+        decode();
         return this.chunkData.get(x, y, z);
     }
 
     @Override
     public void set(int x, int y, int z, int state) {
+        decode();
         int curr = this.chunkData.set(x, y, z, state);
         if (state != AIR && curr == AIR) {
             this.blockCount++;
@@ -89,10 +203,12 @@ public class Chunk_v1_18 implements BaseChunk {
     }
 
     public @NotNull DataPalette getChunkData() {
+        decode();
         return chunkData;
     }
 
     public @NotNull DataPalette getBiomeData() {
+        decode();
         return biomeData;
     }
 }
\ No newline at end of file
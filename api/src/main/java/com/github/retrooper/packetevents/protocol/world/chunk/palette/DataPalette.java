@@ -18,14 +18,21 @@
 
 package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamOutput;
 import com.github.retrooper.packetevents.protocol.world.chunk.storage.BaseStorage;
 import com.github.retrooper.packetevents.protocol.world.chunk.storage.BitStorage;
 import com.github.retrooper.packetevents.protocol.world.chunk.storage.LegacyFlexibleStorage;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
 public class DataPalette {
 
     // this is the amount of bits required to store the biggest state id number
@@ -54,6 +61,13 @@ public class DataPalette {
         this.paletteType = paletteType;
     }
 
+    /**
+     * @return An independent copy of this palette and its storage
+     */
+    public DataPalette copy() {
+        return new DataPalette(this.palette.copy(), this.storage != null ? this.storage.copy() : null, this.paletteType);
+    }
+
     public static DataPalette read(NetStreamInput in, PaletteType paletteType) {
         return read(in, paletteType, true);
     }
@@ -73,6 +87,45 @@ public class DataPalette {
         return new DataPalette(palette, storage, paletteType);
     }
 
+    public static DataPalette read(PacketWrapper<?> wrapper, PaletteType paletteType) {
+        return read(wrapper, paletteType, true);
+    }
+
+    /**
+     * Reads the palette straight from the buffer of the wrapper, without copying the data in between.
+     */
+    public static DataPalette read(PacketWrapper<?> wrapper, PaletteType paletteType, boolean allowSingletonPalette) {
+        int bitsPerEntry = wrapper.readByte();
+        Palette palette = readPalette(paletteType, bitsPerEntry, wrapper, allowSingletonPalette);
+        BitStorage storage;
+        if (!(palette instanceof SingletonPalette)) {
+            int length = wrapper.readVarInt();
+            storage = new BitStorage(bitsPerEntry, paletteType.getStorageSize(), wrapper.readLongArray(length));
+        } else {
+            wrapper.readVarInt();
+            storage = null;
+        }
+
+        return new DataPalette(palette, storage, paletteType);
+    }
+
+    /**
+     * Skips over an encoded palette without decoding it.
+     */
+    public static void skip(PacketWrapper<?> wrapper, PaletteType paletteType) {
+        int bitsPerEntry = wrapper.readByte();
+        if (bitsPerEntry == 0) {
+            wrapper.readVarInt(); // Singleton state
+        } else if (bitsPerEntry <= paletteType.getMaxBitsPerEntry()) {
+            int paletteLength = wrapper.readVarInt();
+            for (int i = 0; i < paletteLength; i++) {
+                wrapper.readVarInt();
+            }
+        }
+        int length = wrapper.readVarInt();
+        ByteBufHelper.skipBytes(wrapper.getBuffer(), length * Long.BYTES);
+    }
+
     public static void write(NetStreamOutput out, DataPalette palette) {
         if (palette.palette instanceof SingletonPalette) {
             out.writeByte(0); // Bits per entry
@@ -96,6 +149,48 @@ public class DataPalette {
         out.writeLongs(data);
     }
 
+    /**
+     * @return The amount of bytes the palette takes up when written
+     */
+    public static int getSerializedSize(DataPalette palette) {
+        if (palette.palette instanceof SingletonPalette) {
+            return 1 + ByteBufHelper.getVarIntSize(palette.palette.idToState(0)) + 1;
+        }
+
+        int size = 1; // Bits per entry
+        if (!(palette.palette instanceof GlobalPalette)) {
+            int paletteLength = palette.palette.size();
+            size += ByteBufHelper.getVarIntSize(paletteLength);
+            for (int i = 0; i < paletteLength; i++) {
+                size += ByteBufHelper.getVarIntSize(palette.palette.idToState(i));
+            }
+        }
+
+        int dataLength = palette.storage.getData().length;
+        return size + ByteBufHelper.getVarIntSize(dataLength) + dataLength * Long.BYTES;
+    }
+
+    public static void write(PacketWrapper<?> wrapper, DataPalette palette) {
+        if (palette.palette instanceof SingletonPalette) {
+            wrapper.writeByte(0); // Bits per entry
+            wrapper.writeVarInt(palette.palette.idToState(0));
+            wrapper.writeVarInt(0); // Data length
+            return;
+        }
+
+        wrapper.writeByte(palette.storage.getBitsPerEntry());
+
+        if (!(palette.palette instanceof GlobalPalette)) {
+            int paletteLength = palette.palette.size();
+            wrapper.writeVarInt(paletteLength);
+            for (int i = 0; i < paletteLength; i++) {
+                wrapper.writeVarInt(palette.palette.idToState(i));
+            }
+        }
+
+        wrapper.writeLongArray(palette.storage.getData());
+    }
+
     public static DataPalette readLegacy(NetStreamInput in) {
         int bitsPerEntry = in.readByte() & 0xff;
         Palette palette = readPalette(PaletteType.CHUNK, bitsPerEntry, in, false);
@@ -141,6 +236,188 @@ public class DataPalette {
         }
     }
 
+    /**
+     * Sets every entry of this palette to the state.
+     */
+    public void fill(int state) {
+        int bitsPerEntry = this.paletteType.getMinBitsPerEntry();
+        this.palette = new ListPalette(bitsPerEntry);
+        this.palette.stateToId(state);
+        // Keep the storage format of legacy chunk sections
+        this.storage = this.storage instanceof LegacyFlexibleStorage
+                ? new LegacyFlexibleStorage(bitsPerEntry, this.paletteType.getStorageSize())
+                : new BitStorage(bitsPerEntry, this.paletteType.getStorageSize());
+    }
+
+    /**
+     * Replaces every state of this palette with the state returned by the operator.
+     * Unless a global palette is used, only the palette entries are rewritten while the storage is left untouched,
+     * so the operator is called once for every palette entry instead of once for every stored value.
+     */
+    public void replaceAll(IntUnaryOperator operator) {
+        if (this.palette instanceof GlobalPalette) {
+            this.storage.replaceAll(operator);
+            return;
+        }
+        if (this.palette instanceof SingletonPalette) {
+            this.palette = new SingletonPalette(operator.applyAsInt(this.palette.idToState(0)));
+            return;
+        }
+
+        int[] states = new int[this.palette.size()];
+        for (int id = 0; id < states.length; id++) {
+            states[id] = operator.applyAsInt(this.palette.idToState(id));
+        }
+        int bitsPerEntry = this.storage.getBitsPerEntry();
+        if (this.palette instanceof ListPalette) {
+            this.palette = new ListPalette(bitsPerEntry, states);
+        } else {
+            this.palette = new MapPalette(bitsPerEntry, states);
+        }
+    }
+
+    /**
+     * Translates every state of this palette using the table, usually to translate a chunk between versions.
+     * States outside the table are mapped to air.
+     *
+     * @param table              The new states, indexed by the current states
+     * @param globalBitsPerEntry The bits per entry of the global palette of the target version,
+     *                           a global palette is repacked at this width
+     * @see com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState#getRemapTable
+     * @see com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState#getGlobalPaletteBits
+     */
+    public void remap(int[] table, int globalBitsPerEntry) {
+        if (!(this.palette instanceof GlobalPalette)) {
+            this.replaceAll(state -> state >= 0 && state < table.length ? table[state] : 0);
+            return;
+        }
+
+        int[] values = new int[this.paletteType.getStorageSize()];
+        this.storage.unpack(values);
+        for (int i = 0; i < values.length; i++) {
+            int state = values[i];
+            values[i] = state < table.length ? table[state] : 0;
+        }
+        // The client reads global palettes at the width of its own registry, which may differ from the current one
+        if (globalBitsPerEntry != this.storage.getBitsPerEntry()) {
+            this.storage = this.storage instanceof LegacyFlexibleStorage
+                    ? new LegacyFlexibleStorage(globalBitsPerEntry, values.length)
+                    : new BitStorage(globalBitsPerEntry, values.length);
+        }
+        this.storage.pack(values);
+    }
+
+    /**
+     * @return The amount of entries whose state matches the predicate
+     */
+    public int countMatching(IntPredicate predicate) {
+        if (this.storage == null) {
+            return predicate.test(this.palette.idToState(0)) ? this.paletteType.getStorageSize() : 0;
+        }
+        if (this.palette instanceof GlobalPalette) {
+            return this.storage.countMatching(predicate);
+        }
+
+        boolean[] matches = new boolean[this.palette.size()];
+        for (int id = 0; id < matches.length; id++) {
+            matches[id] = predicate.test(this.palette.idToState(id));
+        }
+        return this.storage.countMatching(id -> id < matches.length && matches[id]);
+    }
+
+    /**
+     * Passes the state of every entry to the consumer, in the order of their storage index ({@code y, z, x}).
+     */
+    public void forEach(IntConsumer consumer) {
+        if (this.storage == null) {
+            int state = this.palette.idToState(0);
+            for (int i = 0; i < this.paletteType.getStorageSize(); i++) {
+                consumer.accept(state);
+            }
+            return;
+        }
+        if (this.palette instanceof GlobalPalette) {
+            this.storage.forEach(consumer);
+            return;
+        }
+
+        int[] states = new int[1 << this.storage.getBitsPerEntry()];
+        for (int id = 0; id < Math.min(states.length, this.palette.size()); id++) {
+            states[id] = this.palette.idToState(id);
+        }
+        this.storage.forEach(id -> consumer.accept(states[id]));
+    }
+
+    /**
+     * Compacts this palette, allowing it to become a singleton palette.
+     *
+     * @see #compact(boolean)
+     */
+    public void compact() {
+        this.compact(true);
+    }
+
+    /**
+     * Drops palette entries which are no longer used and repacks the storage with as few bits per entry as possible.
+     * Listeners replacing blocks usually leave unused entries behind, which are still sent to the client otherwise.
+     *
+     * @param allowSingletonPalette Whether a palette with only one used state may become a singleton palette,
+     *                              which is only supported by 1.18+ clients
+     */
+    public void compact(boolean allowSingletonPalette) {
+        if (this.storage == null) {
+            return;
+        }
+
+        int[] values = new int[this.paletteType.getStorageSize()];
+        this.storage.unpack(values);
+        boolean global = this.palette instanceof GlobalPalette;
+        // Collects the used states in order of their first appearance
+        MapPalette used = new MapPalette(this.paletteType.getMaxBitsPerEntry());
+        int[] ids = new int[global ? 0 : 1 << this.storage.getBitsPerEntry()];
+        Arrays.fill(ids, -1);
+        for (int i = 0; i < values.length; i++) {
+            int id;
+            if (global) {
+                id = used.stateToId(values[i]);
+                if (id == -1) {
+                    // Too many states to leave the global palette
+                    return;
+                }
+            } else {
+                int oldId = values[i];
+                id = ids[oldId];
+                if (id == -1) {
+                    id = ids[oldId] = used.stateToId(this.palette.idToState(oldId));
+                }
+            }
+            values[i] = id;
+        }
+
+        int count = used.size();
+        if (count == 1 && allowSingletonPalette) {
+            this.palette = new SingletonPalette(used.idToState(0));
+            this.storage = null;
+            return;
+        }
+        int bitsPerEntry = Math.max(this.paletteType.getMinBitsPerEntry(), 32 - Integer.numberOfLeadingZeros(count - 1));
+        if (!global && count == this.palette.size() && bitsPerEntry >= this.storage.getBitsPerEntry()) {
+            // Already as compact as it gets
+            return;
+        }
+
+        int[] states = new int[count];
+        for (int id = 0; id < count; id++) {
+            states[id] = used.idToState(id);
+        }
+        this.palette = bitsPerEntry <= this.paletteType.getMinBitsPerEntry()
+                ? new ListPalette(bitsPerEntry, states) : new MapPalette(bitsPerEntry, states);
+        this.storage = this.storage instanceof LegacyFlexibleStorage
+                ? new LegacyFlexibleStorage(bitsPerEntry, values.length)
+                : new BitStorage(bitsPerEntry, values.length);
+        this.storage.pack(values);
+    }
+
     private static Palette readPalette(
             PaletteType paletteType,
             int bitsPerEntry,
@@ -160,6 +437,25 @@ public class DataPalette {
         }
     }
 
+    private static Palette readPalette(
+            PaletteType paletteType,
+            int bitsPerEntry,
+            PacketWrapper<?> wrapper,
+            boolean allowSingletonPalette
+    ) {
+        if (bitsPerEntry > paletteType.getMaxBitsPerEntry()) {
+            return new GlobalPalette();
+        }
+        if (bitsPerEntry == 0 && allowSingletonPalette) {
+            return new SingletonPalette(wrapper);
+        }
+        if (bitsPerEntry <= paletteType.getMinBitsPerEntry()) {
+            return new ListPalette(bitsPerEntry, wrapper);
+        } else {
+            return new MapPalette(bitsPerEntry, wrapper);
+        }
+    }
+
     private int sanitizeBitsPerEntry(int bitsPerEntry) {
         if (bitsPerEntry <= this.paletteType.getMaxBitsPerEntry()) {
             return Math.max(this.paletteType.getMinBitsPerEntry(), bitsPerEntry);
@@ -179,9 +475,26 @@ public class DataPalette {
         if (oldPalette instanceof SingletonPalette) {
             this.palette.stateToId(oldPalette.idToState(0));
         } else {
-            for (int i = 0; i < paletteType.getStorageSize(); i++) {
-                this.storage.set(i, this.palette.stateToId(oldPalette.idToState(oldData.get(i))));
+            // Move the whole storage at once, resolving every old id only once
+            int[] values = new int[paletteType.getStorageSize()];
+            oldData.unpack(values);
+            if (oldPalette instanceof GlobalPalette) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = this.palette.stateToId(values[i]);
+                }
+            } else {
+                int[] ids = new int[1 << oldData.getBitsPerEntry()];
+                Arrays.fill(ids, -1);
+                for (int i = 0; i < values.length; i++) {
+                    int oldId = values[i];
+                    int id = ids[oldId];
+                    if (id == -1) {
+                        id = ids[oldId] = this.palette.stateToId(oldPalette.idToState(oldId));
+                    }
+                    values[i] = id;
+                }
             }
+            this.storage.pack(values);
         }
     }
 
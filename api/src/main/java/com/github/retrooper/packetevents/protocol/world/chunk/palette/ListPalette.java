@@ -25,6 +25,7 @@
 package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
 /**
  * A palette backed by a List.
@@ -42,6 +43,19 @@ public class ListPalette implements Palette {
         this.data = new int[this.maxId + 1];
     }
 
+    ListPalette(int bitsPerEntry, int[] states) {
+        this(bitsPerEntry);
+
+        System.arraycopy(states, 0, this.data, 0, states.length);
+        this.nextId = states.length;
+    }
+
+    private ListPalette(ListPalette palette) {
+        this.maxId = palette.maxId;
+        this.data = palette.data.clone();
+        this.nextId = palette.nextId;
+    }
+
     public ListPalette(int bitsPerEntry, NetStreamInput in) {
         this(bitsPerEntry);
 
@@ -52,6 +66,16 @@ public class ListPalette implements Palette {
         this.nextId = paletteLength;
     }
 
+    public ListPalette(int bitsPerEntry, PacketWrapper<?> wrapper) {
+        this(bitsPerEntry);
+
+        int paletteLength = wrapper.readVarInt();
+        for (int i = 0; i < paletteLength; i++) {
+            this.data[i] = wrapper.readVarInt();
+        }
+        this.nextId = paletteLength;
+    }
+
     @Override
     public int size() {
         return this.nextId;
@@ -82,4 +106,9 @@ public class ListPalette implements Palette {
             return 0;
         }
     }
+
+    @Override
+    public ListPalette copy() {
+        return new ListPalette(this);
+    }
 }
\ No newline at end of file
@@ -25,8 +25,7 @@
 package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
-
-import java.util.HashMap;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
 /**
  * A palette backed by a map.
@@ -35,14 +34,39 @@ public class MapPalette implements Palette {
     private final int maxId;
 
     private final int[] idToState;
-    // TODO: Can we use fastutils here?
-    private final HashMap<Object, Integer> stateToId = new HashMap<>();
+    // Open addressing table from state to id, an id of 0 marks an empty slot as ids are stored plus one
+    private final int[] tableStates;
+    private final int[] tableIds;
+    private final int tableMask;
     private int nextId = 0;
 
     public MapPalette(int bitsPerEntry) {
         this.maxId = (1 << bitsPerEntry) - 1;
 
         this.idToState = new int[this.maxId + 1];
+        // Twice the amount of ids keeps the load factor at or below one half
+        this.tableStates = new int[this.idToState.length << 1];
+        this.tableIds = new int[this.tableStates.length];
+        this.tableMask = this.tableStates.length - 1;
+    }
+
+    MapPalette(int bitsPerEntry, int[] states) {
+        this(bitsPerEntry);
+
+        for (int i = 0; i < states.length; i++) {
+            this.idToState[i] = states[i];
+            this.putIfAbsent(states[i], i);
+        }
+        this.nextId = states.length;
+    }
+
+    private MapPalette(MapPalette palette) {
+        this.maxId = palette.maxId;
+        this.idToState = palette.idToState.clone();
+        this.tableStates = palette.tableStates.clone();
+        this.tableIds = palette.tableIds.clone();
+        this.tableMask = palette.tableMask;
+        this.nextId = palette.nextId;
     }
 
     public MapPalette(int bitsPerEntry, NetStreamInput in) {
@@ -52,11 +76,40 @@ public class MapPalette implements Palette {
         for (int i = 0; i < paletteLength; i++) {
             int state = in.readVarInt();
             this.idToState[i] = state;
-            this.stateToId.putIfAbsent(state, i);
+            this.putIfAbsent(state, i);
         }
         this.nextId = paletteLength;
     }
 
+    public MapPalette(int bitsPerEntry, PacketWrapper<?> wrapper) {
+        this(bitsPerEntry);
+
+        int paletteLength = wrapper.readVarInt();
+        for (int i = 0; i < paletteLength; i++) {
+            int state = wrapper.readVarInt();
+            this.idToState[i] = state;
+            this.putIfAbsent(state, i);
+        }
+        this.nextId = paletteLength;
+    }
+
+    private int slot(int state) {
+        // Spread the sequential state ids over the table
+        return (state * 0x9E3779B9 >>> 16) & this.tableMask;
+    }
+
+    private void putIfAbsent(int state, int id) {
+        int slot = this.slot(state);
+        while (this.tableIds[slot] != 0) {
+            if (this.tableStates[slot] == state) {
+                return;
+            }
+            slot = (slot + 1) & this.tableMask;
+        }
+        this.tableStates[slot] = state;
+        this.tableIds[slot] = id + 1;
+    }
+
     @Override
     public int size() {
         return this.nextId;
@@ -64,18 +117,23 @@ public class MapPalette implements Palette {
 
     @Override
     public int stateToId(int state) {
-        Integer id = this.stateToId.get(state);
-        if (id == null && this.size() < this.maxId + 1) {
-            id = this.nextId++;
-            this.idToState[id] = state;
-            this.stateToId.put(state, id);
+        int slot = this.slot(state);
+        int id;
+        while ((id = this.tableIds[slot]) != 0) {
+            if (this.tableStates[slot] == state) {
+                return id - 1;
+            }
+            slot = (slot + 1) & this.tableMask;
         }
 
-        if (id != null) {
+        if (this.size() < this.maxId + 1) {
+            id = this.nextId++;
+            this.idToState[id] = state;
+            this.tableStates[slot] = state;
+            this.tableIds[slot] = id + 1;
             return id;
-        } else {
-            return -1;
         }
+        return -1;
     }
 
     @Override
@@ -86,4 +144,9 @@ public class MapPalette implements Palette {
             return 0;
         }
     }
+
+    @Override
+    public MapPalette copy() {
+        return new MapPalette(this);
+    }
 }
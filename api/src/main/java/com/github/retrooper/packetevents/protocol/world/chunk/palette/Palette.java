@@ -52,4 +52,13 @@ public interface Palette {
      * @return The resulting block state.
      */
     int idToState(int id);
+
+    /**
+     * Palettes which can be modified return an independent copy, others may return themselves.
+     *
+     * @return A copy of this palette
+     */
+    default Palette copy() {
+        return this;
+    }
 }
@@ -20,6 +20,7 @@ package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamOutput;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
 import java.io.IOException;
 
@@ -30,10 +31,18 @@ import java.io.IOException;
 public class SingletonPalette implements Palette {
     private final int state;
 
+    public SingletonPalette(int state) {
+        this.state = state;
+    }
+
     public SingletonPalette(NetStreamInput in) {
         this.state = in.readVarInt();
     }
 
+    public SingletonPalette(PacketWrapper<?> wrapper) {
+        this.state = wrapper.readVarInt();
+    }
+
     @Override
     public int size() {
         return 1;
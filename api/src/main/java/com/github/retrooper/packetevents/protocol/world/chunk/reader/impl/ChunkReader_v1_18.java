@@ -23,6 +23,7 @@ import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
 import com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18.Chunk_v1_18;
 import com.github.retrooper.packetevents.protocol.world.chunk.reader.ChunkReader;
 import com.github.retrooper.packetevents.protocol.world.dimension.DimensionType;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
 import java.util.BitSet;
 
@@ -37,4 +38,32 @@ public class ChunkReader_v1_18 implements ChunkReader {
 
         return chunks;
     }
+
+    /**
+     * Reads the chunk sections straight from the buffer of the wrapper, without copying the section data first.
+     */
+    public BaseChunk[] read(PacketWrapper<?> wrapper, int chunkSize) {
+        BaseChunk[] chunks = new BaseChunk[chunkSize];
+
+        for (int index = 0; index < chunkSize; ++index) {
+            chunks[index] = Chunk_v1_18.read(wrapper);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Reads the chunk sections without decoding their palettes until they are accessed.
+     *
+     * @see Chunk_v1_18#readLazily(PacketWrapper)
+     */
+    public BaseChunk[] readLazily(PacketWrapper<?> wrapper, int chunkSize) {
+        BaseChunk[] chunks = new BaseChunk[chunkSize];
+
+        for (int index = 0; index < chunkSize; ++index) {
+            chunks[index] = Chunk_v1_18.readLazily(wrapper);
+        }
+
+        return chunks;
+    }
 }
@@ -18,6 +18,10 @@
 
 package com.github.retrooper.packetevents.protocol.world.chunk.storage;
 
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
 public abstract class BaseStorage {
     public abstract long[] getData();
 
@@ -28,4 +32,58 @@ public abstract class BaseStorage {
     public abstract int get(int index);
 
     public abstract void set(int index, int value);
+
+    /**
+     * @return An independent copy of this storage
+     */
+    public abstract BaseStorage copy();
+
+    /**
+     * Copies all stored values into the array, which has to hold at least {@link #getSize()} values.
+     */
+    public void unpack(int[] values) {
+        for (int i = 0; i < this.getSize(); i++) {
+            values[i] = this.get(i);
+        }
+    }
+
+    /**
+     * Replaces all stored values with the first {@link #getSize()} values of the array.
+     */
+    public void pack(int[] values) {
+        for (int i = 0; i < this.getSize(); i++) {
+            this.set(i, values[i]);
+        }
+    }
+
+    /**
+     * Passes every stored value to the consumer, in index order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < this.getSize(); i++) {
+            consumer.accept(this.get(i));
+        }
+    }
+
+    public void fill(int value) {
+        for (int i = 0; i < this.getSize(); i++) {
+            this.set(i, value);
+        }
+    }
+
+    public void replaceAll(IntUnaryOperator operator) {
+        for (int i = 0; i < this.getSize(); i++) {
+            this.set(i, operator.applyAsInt(this.get(i)));
+        }
+    }
+
+    public int countMatching(IntPredicate predicate) {
+        int count = 0;
+        for (int i = 0; i < this.getSize(); i++) {
+            if (predicate.test(this.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.world.chunk.storage;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Unpacks and packs the longs of a {@link BitStorage} all at once.
+ * <p>
+ * A vectorized implementation using the incubating Vector API is shipped as a Java 17 multi-release class.
+ * It is only used if the jar is loaded as a multi-release jar, the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} and the CPU has vector registers of at least 256 bits,
+ * otherwise the scalar implementation is used.
+ */
+@ApiStatus.Internal
+public abstract class BitPacker {
+
+    private static final String VECTOR_PACKER = "com.github.retrooper.packetevents.protocol.world.chunk.storage.VectorBitPacker";
+    private static final BitPacker SCALAR = new ScalarBitPacker();
+    private static final BitPacker INSTANCE;
+
+    static {
+        BitPacker vector = vector();
+        INSTANCE = vector != null ? vector : SCALAR;
+    }
+
+    /**
+     * @return The implementation used by all storages
+     */
+    public static BitPacker get() {
+        return INSTANCE;
+    }
+
+    public static BitPacker scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * @return The vectorized implementation, or null if it is not available
+     */
+    public static @Nullable BitPacker vector() {
+        try {
+            Class<?> type = Class.forName(VECTOR_PACKER);
+            if (!(boolean) type.getDeclaredMethod("isSupported").invoke(null)) {
+                // Vector registers too narrow to benefit from
+                return null;
+            }
+            return (BitPacker) type.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | LinkageError e) {
+            // Java 8, a class loader without multi-release support or the incubator module not being added
+            return null;
+        } catch (ReflectiveOperationException e) {
+            // Any other failure to load it, the scalar implementation always works
+            return null;
+        }
+    }
+
+    /**
+     * Copies the first {@code size} values stored in the longs into the array.
+     */
+    public abstract void unpack(long[] data, int bitsPerEntry, int size, int[] values);
+
+    /**
+     * Replaces the longs with the first {@code size} values of the array.
+     *
+     * @throws IllegalStateException If a value does not fit into {@code bitsPerEntry} bits
+     */
+    public abstract void pack(int[] values, int bitsPerEntry, int size, long[] data);
+
+    static IllegalStateException illegalValue(int value, long maxValue) {
+        return new IllegalStateException("Illegal value: " + value + " < 0 || " + value + " > " + maxValue);
+    }
+}
@@ -24,6 +24,11 @@
 
 package com.github.retrooper.packetevents.protocol.world.chunk.storage;
 
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
 //TODO Equals & hashcode
 public class BitStorage extends BaseStorage {
     private static final int[] MAGIC_VALUES = {
@@ -130,6 +135,86 @@ public class BitStorage extends BaseStorage {
         this.data[cellIndex] = this.data[cellIndex] & ~(this.maxValue << bitIndex) | ((long) value & this.maxValue) << bitIndex;
     }
 
+    @Override
+    public BitStorage copy() {
+        return new BitStorage(this.bitsPerEntry, this.size, this.data.clone());
+    }
+
+    @Override
+    public void unpack(int[] values) {
+        BitPacker.get().unpack(this.data, this.bitsPerEntry, this.size, values);
+    }
+
+    @Override
+    public void pack(int[] values) {
+        BitPacker.get().pack(values, this.bitsPerEntry, this.size, this.data);
+    }
+
+    @Override
+    public void forEach(IntConsumer consumer) {
+        int index = 0;
+        for (long cell : this.data) {
+            for (int i = 0; i < this.valuesPerLong && index < this.size; i++, index++) {
+                consumer.accept((int) (cell & this.maxValue));
+                cell >>>= this.bitsPerEntry;
+            }
+        }
+    }
+
+    @Override
+    public void fill(int value) {
+        if (value < 0 || value > this.maxValue) {
+            throw new IllegalStateException("Illegal value: " + value + " < 0 || " + value + " > " + this.maxValue);
+        }
+        if (this.data.length == 0) {
+            return;
+        }
+
+        long cell = 0L;
+        for (int i = 0; i < this.valuesPerLong; i++) {
+            cell |= (long) value << i * this.bitsPerEntry;
+        }
+        Arrays.fill(this.data, cell);
+        // Leave the unused bits of the last cell empty
+        int lastValues = this.size - (this.data.length - 1) * this.valuesPerLong;
+        if (lastValues < this.valuesPerLong) {
+            this.data[this.data.length - 1] = cell & (1L << lastValues * this.bitsPerEntry) - 1L;
+        }
+    }
+
+    @Override
+    public void replaceAll(IntUnaryOperator operator) {
+        int index = 0;
+        for (int cellIndex = 0; cellIndex < this.data.length; cellIndex++) {
+            long cell = this.data[cellIndex];
+            long replaced = 0L;
+            for (int i = 0; i < this.valuesPerLong && index < this.size; i++, index++) {
+                int bitIndex = i * this.bitsPerEntry;
+                int value = operator.applyAsInt((int) (cell >>> bitIndex & this.maxValue));
+                if (value < 0 || value > this.maxValue) {
+                    throw new IllegalStateException("Illegal value: " + value + " < 0 || " + value + " > " + this.maxValue);
+                }
+                replaced |= (long) value << bitIndex;
+            }
+            this.data[cellIndex] = replaced;
+        }
+    }
+
+    @Override
+    public int countMatching(IntPredicate predicate) {
+        int count = 0;
+        int index = 0;
+        for (long cell : this.data) {
+            for (int i = 0; i < this.valuesPerLong && index < this.size; i++, index++) {
+                if (predicate.test((int) (cell & this.maxValue))) {
+                    count++;
+                }
+                cell >>>= this.bitsPerEntry;
+            }
+        }
+        return count;
+    }
+
     private int cellIndex(int index) {
         return (int) (index * this.divideMultiply + this.divideAdd >> 32 >> this.divideShift);
     }
@@ -0,0 +1,56 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.world.chunk.storage;
+
+/**
+ * Walks each long once with shifts and masks.
+ */
+final class ScalarBitPacker extends BitPacker {
+
+    @Override
+    public void unpack(long[] data, int bitsPerEntry, int size, int[] values) {
+        int valuesPerLong = 64 / bitsPerEntry;
+        long maxValue = (1L << bitsPerEntry) - 1L;
+        int index = 0;
+        for (long cell : data) {
+            for (int i = 0; i < valuesPerLong && index < size; i++, index++) {
+                values[index] = (int) (cell & maxValue);
+                cell >>>= bitsPerEntry;
+            }
+        }
+    }
+
+    @Override
+    public void pack(int[] values, int bitsPerEntry, int size, long[] data) {
+        int valuesPerLong = 64 / bitsPerEntry;
+        long maxValue = (1L << bitsPerEntry) - 1L;
+        int index = 0;
+        for (int cellIndex = 0; cellIndex < data.length; cellIndex++) {
+            long cell = 0L;
+            for (int i = 0; i < valuesPerLong && index < size; i++, index++) {
+                int value = values[index];
+                if (value < 0 || value > maxValue) {
+                    throw illegalValue(value, maxValue);
+                }
+                cell |= (long) value << i * bitsPerEntry;
+            }
+            data[cellIndex] = cell;
+        }
+    }
+}
@@ -52,6 +52,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.github.retrooper.packetevents.util.adventure.AdventureIndexUtil.indexValueOrThrow;
 
@@ -70,6 +71,8 @@ public class WrappedBlockState {
 
     private static final byte[] MAPPING_INDEXES;
     private static final byte LEGACY_MAPPING_INDEX = 0;
+    // 1.9 - 1.12 clients always read global palettes at 13 bits, regardless of the highest combined id
+    private static final int LEGACY_GLOBAL_PALETTE_BITS = 13;
 
     static {
         // all versions where block state mappings were changed TODO UPDATE
@@ -101,6 +104,9 @@ public class WrappedBlockState {
     private static final Map<Byte, Map<StateType, WrappedBlockState>> DEFAULT_STATES = new HashMap<>();
 
     private static final Map<String, String> STRING_UPDATER = new HashMap<>();
+    // Lazily built remap tables, keyed by the source and target mappings index
+    private static final Map<Integer, int[]> REMAP_TABLES = new ConcurrentHashMap<>();
+    private static final Map<Byte, Integer> GLOBAL_PALETTE_BITS = new ConcurrentHashMap<>();
 
     static {
         STRING_UPDATER.put("grass_path", "dirt_path"); // 1.16 -> 1.17
@@ -285,6 +291,62 @@ public class WrappedBlockState {
         return clone ? state.clone() : state;
     }
 
+    /**
+     * Returns a table translating the global ids of one version into the global ids of another version,
+     * meant for translating whole chunks at once with {@link com.github.retrooper.packetevents.protocol.world.chunk.palette.DataPalette#remap(int[], int)}.
+     * Ids which don't exist in the source version or whose state doesn't exist in the target version are mapped to air.
+     * <p>
+     * Tables are built once per pair of mappings and shared, so the returned array must not be modified.
+     *
+     * @param from The version of the global ids to translate
+     * @param to   The version to translate the global ids into
+     * @return The table, indexed by the global id of the source version
+     */
+    public static int[] getRemapTable(ClientVersion from, ClientVersion to) {
+        byte fromIndex = getMappingsIndex(from);
+        byte toIndex = getMappingsIndex(to);
+        return REMAP_TABLES.computeIfAbsent(fromIndex << 8 | toIndex,
+                key -> createRemapTable(fromIndex, toIndex));
+    }
+
+    /**
+     * Returns the bits per entry of the global block palette of a version, large enough for all of its global ids.
+     * Legacy versions (1.9 - 1.12) use a fixed width of 13 bits instead.
+     *
+     * @param version The version
+     * @return The bits per entry
+     * @see #getRemapTable(ClientVersion, ClientVersion)
+     */
+    public static int getGlobalPaletteBits(ClientVersion version) {
+        byte mappingsIndex = getMappingsIndex(version);
+        if (mappingsIndex == LEGACY_MAPPING_INDEX) {
+            return LEGACY_GLOBAL_PALETTE_BITS;
+        }
+        return GLOBAL_PALETTE_BITS.computeIfAbsent(mappingsIndex, index -> {
+            int maxId = 0;
+            for (int id : BY_ID.get(index).keySet()) {
+                maxId = Math.max(maxId, id);
+            }
+            // ceil(log2(maxId + 1))
+            return 32 - Integer.numberOfLeadingZeros(maxId);
+        });
+    }
+
+    private static int[] createRemapTable(byte fromIndex, byte toIndex) {
+        Map<Integer, WrappedBlockState> byId = BY_ID.get(fromIndex);
+        Map<WrappedBlockState, Integer> intoId = INTO_ID.get(toIndex);
+        int maxId = 0;
+        for (int id : byId.keySet()) {
+            maxId = Math.max(maxId, id);
+        }
+        int[] table = new int[maxId + 1];
+        for (Map.Entry<Integer, WrappedBlockState> entry : byId.entrySet()) {
+            int id = entry.getKey();
+            table[id] = fromIndex == toIndex ? id : intoId.getOrDefault(entry.getValue(), 0);
+        }
+        return table;
+    }
+
     private static byte getMappingsIndex(ClientVersion version) {
         return MAPPING_INDEXES[version.ordinal()];
     }
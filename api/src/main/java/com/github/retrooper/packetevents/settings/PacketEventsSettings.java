@@ -34,12 +34,18 @@ public class PacketEventsSettings {
 
     private TimeStampMode timestampMode = TimeStampMode.MILLIS;
     private boolean defaultReencode = true; // true for backwards compat and more idiot-proof
+    private boolean reEncodeOnlyModified = false;
     private boolean checkForUpdates = true;
     private boolean downsampleColors = false;
     private boolean debugEnabled = false;
     private boolean fullStackTraceEnabled = false;
     private boolean kickOnPacketExceptionEnabled = true;
     private boolean kickIfTerminated = true;
+    private boolean skipUnlistenedPackets = true;
+    private int chunkSectionCacheSize = 0;
+    private int chunkDataCacheSize = 0;
+    private boolean lazyNBT = false;
+    private int componentCacheSize = 0;
     private Function<String, InputStream> resourceProvider = path -> PacketEventsSettings.class
             .getClassLoader()
             .getResourceAsStream(path);
@@ -68,6 +74,20 @@ public class PacketEventsSettings {
         return this;
     }
 
+    /**
+     * Do we only re-encode packets whose wrapper was modified?
+     * Modifications without setters have to be signaled using {@link com.github.retrooper.packetevents.wrapper.PacketWrapper#markDirty()}
+     * or {@link com.github.retrooper.packetevents.event.ProtocolPacketEvent#markForReEncode(boolean)}.
+     *
+     * @param reEncodeOnlyModified Value
+     * @return Settings instance
+     */
+    @ApiStatus.Internal
+    public PacketEventsSettings reEncodeOnlyModified(boolean reEncodeOnlyModified) {
+        this.reEncodeOnlyModified = reEncodeOnlyModified;
+        return this;
+    }
+
     /**
      * This decides if PacketEvents should check for updates and notify when your server starts.
      *
@@ -152,6 +172,80 @@ public class PacketEventsSettings {
         return this;
     }
 
+    /**
+     * This decides if PacketEvents should skip creating events for packets no listener is interested in.
+     * The packet id is peeked and, if no listener processes the packet type, the buffer is passed on untouched.
+     *
+     * @param skipUnlistenedPackets Value
+     * @return Settings instance.
+     */
+    @ApiStatus.Internal
+    public PacketEventsSettings skipUnlistenedPackets(boolean skipUnlistenedPackets) {
+        this.skipUnlistenedPackets = skipUnlistenedPackets;
+        return this;
+    }
+
+    /**
+     * This decides how many encoded 1.18+ chunk sections PacketEvents may cache.
+     * Identical sections written again, such as the repeating layers of flat worlds, reuse the cached bytes.
+     * Sections filled with a single block, such as the sections of void worlds, are cheap to encode and never cached.
+     * A size of 0 disables the cache.
+     *
+     * @param chunkSectionCacheSize Value
+     * @return Settings instance.
+     */
+    public PacketEventsSettings chunkSectionCacheSize(int chunkSectionCacheSize) {
+        this.chunkSectionCacheSize = chunkSectionCacheSize;
+        return this;
+    }
+
+    /**
+     * This decides of how many chunks PacketEvents may cache the chunk data packets.
+     * Once a chunk data packet was re-encoded, its column as the listeners left it and the written packet are cached.
+     * Other viewers receiving the same data take both from the cache instead of parsing and encoding the packet again.
+     * Listeners see a copy of the cached column for these viewers, see
+     * {@link com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerChunkData#isCached()}.
+     * Listeners modifying chunk data for single viewers have to call
+     * {@link com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerChunkData#setCacheable(boolean)}.
+     * A size of 0 disables the cache.
+     *
+     * @param chunkDataCacheSize Value
+     * @return Settings instance.
+     * @see com.github.retrooper.packetevents.protocol.world.chunk.ChunkDataCache
+     */
+    public PacketEventsSettings chunkDataCacheSize(int chunkDataCacheSize) {
+        this.chunkDataCacheSize = chunkDataCacheSize;
+        return this;
+    }
+
+    /**
+     * This decides if PacketEvents should read NBT compounds of packets lazily.
+     * Lazy compounds keep the bytes they were read from and are only parsed once they are accessed,
+     * compounds which are never accessed are written back verbatim.
+     *
+     * @param lazyNBT Value
+     * @return Settings instance.
+     * @see com.github.retrooper.packetevents.protocol.nbt.LazyNBTCompound
+     */
+    public PacketEventsSettings lazyNBT(boolean lazyNBT) {
+        this.lazyNBT = lazyNBT;
+        return this;
+    }
+
+    /**
+     * This decides how many encoded components PacketEvents may cache.
+     * Components written again, such as scoreboard lines or boss bar titles resent every tick, reuse the cached bytes.
+     * A size of 0 disables the cache.
+     *
+     * @param componentCacheSize Value
+     * @return Settings instance.
+     * @see com.github.retrooper.packetevents.util.adventure.ComponentCache
+     */
+    public PacketEventsSettings componentCacheSize(int componentCacheSize) {
+        this.componentCacheSize = componentCacheSize;
+        return this;
+    }
+
     /**
      * Some projects may want to implement a CDN with resources like asset mappings
      * By default, all resources are retrieved from the ClassLoader
@@ -174,6 +268,15 @@ public class PacketEventsSettings {
         return defaultReencode;
     }
 
+    /**
+     * Should only packets with a modified wrapper be re-encoded?
+     *
+     * @return Getter for {@link #reEncodeOnlyModified}
+     */
+    public boolean reEncodeOnlyModified() {
+        return reEncodeOnlyModified;
+    }
+
     /**
      * Should we check for updates?
      *
@@ -241,6 +344,51 @@ public class PacketEventsSettings {
         return kickIfTerminated;
     }
 
+    /**
+     * Should packetevents skip creating events for packets no listener is interested in?
+     *
+     * @return Getter for {@link #skipUnlistenedPackets}
+     */
+    public boolean shouldSkipUnlistenedPackets() {
+        return skipUnlistenedPackets;
+    }
+
+    /**
+     * How many encoded chunk sections may be cached?
+     *
+     * @return Getter for {@link #chunkSectionCacheSize}
+     */
+    public int getChunkSectionCacheSize() {
+        return chunkSectionCacheSize;
+    }
+
+    /**
+     * How many encoded chunk data packets may be cached?
+     *
+     * @return Getter for {@link #chunkDataCacheSize}
+     */
+    public int getChunkDataCacheSize() {
+        return chunkDataCacheSize;
+    }
+
+    /**
+     * Should packetevents read NBT compounds of packets lazily?
+     *
+     * @return Getter for {@link #lazyNBT}
+     */
+    public boolean shouldReadNBTLazily() {
+        return lazyNBT;
+    }
+
+    /**
+     * How many encoded components may be cached?
+     *
+     * @return Getter for {@link #componentCacheSize}
+     */
+    public int getComponentCacheSize() {
+        return componentCacheSize;
+    }
+
     /**
      * As described above, this method retrieves the function that acquires the InputStream
      * of a desired resource by its path.
@@ -25,7 +25,12 @@ import com.github.retrooper.packetevents.event.ProtocolPacketEvent;
 import com.github.retrooper.packetevents.event.UserDisconnectEvent;
 import com.github.retrooper.packetevents.manager.protocol.ProtocolManager;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
 import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.ProtocolProfile;
 import com.github.retrooper.packetevents.protocol.player.User;
 import org.jetbrains.annotations.Nullable;
 
@@ -54,6 +59,10 @@ public final class PacketEventsImplHelper {
         if (!ByteBufHelper.isReadable(buffer)) {
             return null;
         }
+        //Nobody is listening, pass on the buffer untouched without creating an event
+        if (!hasListeners(user, buffer, autoProtocolTranslation, PacketSide.SERVER)) {
+            return null;
+        }
 
         int preProcessIndex = ByteBufHelper.readerIndex(buffer);
         PacketSendEvent packetSendEvent = EventCreationUtil.createSendEvent(channel, user, player, buffer, autoProtocolTranslation);
@@ -94,6 +103,10 @@ public final class PacketEventsImplHelper {
         if (!ByteBufHelper.isReadable(buffer)) {
             return null;
         }
+        //Nobody is listening, pass on the buffer untouched without creating an event
+        if (!hasListeners(user, buffer, autoProtocolTranslation, PacketSide.CLIENT)) {
+            return null;
+        }
 
         int preProcessIndex = ByteBufHelper.readerIndex(buffer);
         PacketReceiveEvent packetReceiveEvent = EventCreationUtil.createReceiveEvent(channel, user, player, buffer, autoProtocolTranslation);
@@ -125,6 +138,36 @@ public final class PacketEventsImplHelper {
         return packetReceiveEvent;
     }
 
+    //Peeks the packet id and checks if any listener will process the packet, leaving the reader index untouched
+    private static boolean hasListeners(User user, Object buffer, boolean autoProtocolTranslation, PacketSide side) {
+        if (!PacketEvents.getAPI().getSettings().shouldSkipUnlistenedPackets()) {
+            return true;
+        }
+        ProtocolProfile profile = user.getProtocolProfile();
+        ClientVersion version;
+        if (autoProtocolTranslation || profile == null) {
+            version = PacketEvents.getAPI().getServerManager().getVersion().toClientVersion();
+        } else {
+            version = profile.getServerVersion().toClientVersion();
+        }
+        ConnectionState state = side == PacketSide.CLIENT ? user.getDecoderState() : user.getEncoderState();
+
+        int readerIndex = ByteBufHelper.readerIndex(buffer);
+        int packetId;
+        try {
+            packetId = ByteBufHelper.readVarInt(buffer);
+        } catch (Exception e) {
+            //Let the event creation report the malformed packet
+            return true;
+        } finally {
+            ByteBufHelper.readerIndex(buffer, readerIndex);
+        }
+        PacketTypeCommon packetType = PacketType.getById(side, state, version, packetId);
+        //Unknown packets take the regular path, which reports them
+        return packetType == null
+                || PacketEvents.getAPI().getEventManager().getListeners(packetType).length != 0;
+    }
+
     public static void handleDisconnection(Object channel, @Nullable UUID uuid) {
         synchronized (channel) {
             User user = PacketEvents.getAPI().getProtocolManager().getUser(channel);
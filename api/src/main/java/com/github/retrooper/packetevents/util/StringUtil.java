@@ -26,4 +26,34 @@ public class StringUtil {
             return msg;
         }
     }
+
+    /**
+     * Counts the bytes {@link String#getBytes(java.nio.charset.Charset)} would produce
+     * using UTF-8, without allocating them. Unpaired surrogates are counted as one byte,
+     * as they are replaced by a question mark.
+     *
+     * @param sequence Characters to count the encoded bytes of
+     * @return Length of the UTF-8 encoded characters
+     */
+    public static int utf8Length(CharSequence sequence) {
+        int length = sequence.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = sequence.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(sequence.charAt(i + 1))) {
+                // Two characters make up four bytes
+                bytes += 2;
+                i++;
+            }
+        }
+        return bytes;
+    }
 }
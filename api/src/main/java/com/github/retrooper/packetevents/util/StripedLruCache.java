@@ -0,0 +1,110 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least recently used cache, split into stripes which are locked independently.
+ * Netty threads of different connections mostly hit different stripes, instead of all waiting on one lock.
+ * Each stripe evicts on its own, so the least recently used entry of the whole cache is not always the one evicted.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+@ApiStatus.Internal
+public final class StripedLruCache<K, V> {
+
+    private final Map<K, V>[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripeCount The amount of stripes, has to be a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public StripedLruCache(int stripeCount) {
+        if (stripeCount <= 0 || (stripeCount & (stripeCount - 1)) != 0) {
+            throw new IllegalArgumentException("Stripe count has to be a power of two, got " + stripeCount);
+        }
+        this.stripes = new Map[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new LinkedHashMap<>(16, 0.75F, true);
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    public @Nullable V get(K key) {
+        Map<K, V> stripe = this.stripe(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    /**
+     * @param maxSize The maximum size of the whole cache, every stripe holds an equal share of it
+     */
+    public void put(K key, V value, int maxSize) {
+        int maxStripeSize = Math.max(1, (maxSize + this.mask) / this.stripes.length);
+        Map<K, V> stripe = this.stripe(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+            Iterator<V> iterator = stripe.values().iterator();
+            while (stripe.size() > maxStripeSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public @Nullable V remove(K key) {
+        Map<K, V> stripe = this.stripe(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Map<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<K, V> stripe(K key) {
+        int hash = key.hashCode();
+        // Spread the higher bits, keys often only differ in those
+        return this.stripes[(hash ^ (hash >>> 16)) & this.mask];
+    }
+}
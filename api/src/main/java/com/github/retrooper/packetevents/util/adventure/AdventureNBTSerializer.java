@@ -491,7 +491,7 @@ public class AdventureNBTSerializer implements ComponentSerializer<Component, Co
     // -------------------------------------------------
 
     // ------------------- TextColor -------------------
-    private @Nullable TextColor deserializeColor(final @NotNull String value) {
+    @Nullable TextColor deserializeColor(final @NotNull String value) {
         final TextColor color;
         if (value.startsWith(TextColor.HEX_PREFIX)) {
             color = TextColor.fromHexString(value);
@@ -505,7 +505,7 @@ public class AdventureNBTSerializer implements ComponentSerializer<Component, Co
     }
 
     @SuppressWarnings("ConstantConditions")
-    private @NotNull String serializeColor(final @NotNull TextColor value) {
+    @NotNull String serializeColor(final @NotNull TextColor value) {
         if (value instanceof NamedTextColor) {
             return NamedTextColor.NAMES.key((NamedTextColor) value);
         } else if (this.downsampleColor) {
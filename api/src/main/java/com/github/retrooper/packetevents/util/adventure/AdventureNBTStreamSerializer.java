@@ -0,0 +1,596 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.util.adventure;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.nbt.NBT;
+import com.github.retrooper.packetevents.protocol.nbt.NBTByte;
+import com.github.retrooper.packetevents.protocol.nbt.NBTByteArray;
+import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.protocol.nbt.NBTIntArray;
+import com.github.retrooper.packetevents.protocol.nbt.NBTLimiter;
+import com.github.retrooper.packetevents.protocol.nbt.NBTLongArray;
+import com.github.retrooper.packetevents.protocol.nbt.NBTNumber;
+import com.github.retrooper.packetevents.protocol.nbt.NBTType;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.ByteBufNBTSerializer;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.ShadowColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.BackwardCompatUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads and writes components in the unnamed nbt format of 1.20.3+ straight from and to buffers.
+ * The result is the same as using {@link AdventureNBTSerializer} together with the nbt codec,
+ * but no nbt tree is built in between. Only hover events are still converted through a tree.
+ */
+public class AdventureNBTStreamSerializer {
+
+    private static final ByteBufNBTSerializer SERIALIZER = ByteBufNBTSerializer.INSTANCE;
+
+    private final AdventureNBTSerializer serializer;
+
+    public AdventureNBTStreamSerializer(AdventureNBTSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    public @NotNull Component readComponent(NBTLimiter limiter, Object buffer) {
+        try {
+            ComponentReader reader = new ComponentReader(limiter, buffer);
+            return reader.readComponent(SERIALIZER.readTagType(limiter, buffer));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void writeComponent(Object buffer, Component component) {
+        try {
+            if (isPlainText(component)) {
+                SERIALIZER.writeTagType(buffer, NBTType.STRING);
+                ByteBufNBTSerializer.writeUTF(buffer, ((TextComponent) component).content());
+            } else {
+                SERIALIZER.writeTagType(buffer, NBTType.COMPOUND);
+                writeCompound(buffer, component);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // -------------------- Writing --------------------
+    // Mirrors the tag order of AdventureNBTSerializer#serializeComponent and #serializeStyle
+    private void writeCompound(Object buffer, Component component) throws IOException {
+        // component parts
+        if (component instanceof TextComponent) {
+            writeString(buffer, "text", ((TextComponent) component).content());
+        } else if (component instanceof TranslatableComponent) {
+            TranslatableComponent translatable = (TranslatableComponent) component;
+            writeString(buffer, "translate", translatable.key());
+
+            if (BackwardCompatUtil.IS_4_13_0_OR_NEWER) {
+                String fallback = translatable.fallback();
+                if (fallback != null) {
+                    writeString(buffer, "fallback", fallback);
+                }
+            }
+
+            List<Component> args = translatable.args();
+            if (!args.isEmpty()) {
+                if (BackwardCompatUtil.IS_4_15_0_OR_NEWER) {
+                    List<TranslationArgument> arguments = translatable.arguments();
+                    writeListHeader(buffer, "with", arguments.size());
+                    for (TranslationArgument argument : arguments) {
+                        writeCompound(buffer, argument.asComponent());
+                    }
+                } else {
+                    writeComponentList(buffer, "with", args);
+                }
+            }
+        } else if (component instanceof ScoreComponent) {
+            writeTagHeader(buffer, NBTType.COMPOUND, "score");
+            writeString(buffer, "name", ((ScoreComponent) component).name());
+            writeString(buffer, "objective", ((ScoreComponent) component).objective());
+            SERIALIZER.writeTagType(buffer, NBTType.END);
+        } else if (component instanceof SelectorComponent) {
+            writeString(buffer, "selector", ((SelectorComponent) component).pattern());
+
+            Component separator = ((SelectorComponent) component).separator();
+            if (separator != null) writeComponent(buffer, "separator", separator);
+        } else if (component instanceof KeybindComponent) {
+            writeString(buffer, "keybind", ((KeybindComponent) component).keybind());
+        } else if (component instanceof NBTComponent<?, ?>) {
+            writeString(buffer, "nbt", ((NBTComponent<?, ?>) component).nbtPath());
+
+            if (((NBTComponent<?, ?>) component).interpret()) {
+                writeBoolean(buffer, "interpret", true);
+            }
+
+            Component separator = ((NBTComponent<?, ?>) component).separator();
+            if (separator != null) writeComponent(buffer, "separator", separator);
+
+            if (component instanceof BlockNBTComponent) {
+                writeString(buffer, "block", ((BlockNBTComponent) component).pos().asString());
+            } else if (component instanceof EntityNBTComponent) {
+                writeString(buffer, "entity", ((EntityNBTComponent) component).selector());
+            } else if (component instanceof StorageNBTComponent) {
+                writeString(buffer, "storage", ((StorageNBTComponent) component).storage().asString());
+            }
+        }
+
+        if (component.hasStyling()) {
+            writeStyle(buffer, component.style());
+        }
+
+        List<Component> children = component.children();
+        if (!children.isEmpty()) {
+            writeComponentList(buffer, "extra", children);
+        }
+
+        SERIALIZER.writeTagType(buffer, NBTType.END);
+    }
+
+    private void writeStyle(Object buffer, Style style) throws IOException {
+        Key font = style.font();
+        if (font != null) writeString(buffer, "font", font.asString());
+
+        TextColor color = style.color();
+        if (color != null) writeString(buffer, "color", this.serializer.serializeColor(color));
+
+        if (BackwardCompatUtil.IS_4_18_0_OR_NEWER) {
+            ShadowColor shadowColor = style.shadowColor();
+            if (shadowColor != null) {
+                writeTagHeader(buffer, NBTType.INT, "shadow_color");
+                ByteBufHelper.writeInt(buffer, shadowColor.value());
+            }
+        }
+
+        for (TextDecoration decoration : TextDecoration.NAMES.values()) {
+            TextDecoration.State state = style.decoration(decoration);
+            if (state != TextDecoration.State.NOT_SET) {
+                writeBoolean(buffer, decoration.toString(), state == TextDecoration.State.TRUE);
+            }
+        }
+
+        String insertion = style.insertion();
+        if (insertion != null) writeString(buffer, "insertion", insertion);
+
+        ClickEvent clickEvent = style.clickEvent();
+        if (clickEvent != null) {
+            writeTagHeader(buffer, NBTType.COMPOUND, "clickEvent");
+            writeString(buffer, "action", clickEvent.action().toString());
+            writeString(buffer, "value", clickEvent.value());
+            SERIALIZER.writeTagType(buffer, NBTType.END);
+        }
+
+        HoverEvent<?> hoverEvent = style.hoverEvent();
+        if (hoverEvent != null) {
+            // Hover events may carry arbitrary item data, these are rare enough to be converted through a tree
+            NBTCompound tags = this.serializer.serializeStyle(Style.style().hoverEvent(hoverEvent).build());
+            writeTagHeader(buffer, NBTType.COMPOUND, "hoverEvent");
+            SERIALIZER.writeTag(buffer, tags.getTagOrThrow("hoverEvent"));
+        }
+    }
+
+    private void writeComponent(Object buffer, String name, Component component) throws IOException {
+        if (isPlainText(component)) {
+            writeString(buffer, name, ((TextComponent) component).content());
+        } else {
+            writeTagHeader(buffer, NBTType.COMPOUND, name);
+            writeCompound(buffer, component);
+        }
+    }
+
+    private void writeComponentList(Object buffer, String name, List<Component> components) throws IOException {
+        writeListHeader(buffer, name, components.size());
+        for (Component component : components) {
+            writeCompound(buffer, component);
+        }
+    }
+
+    private static void writeListHeader(Object buffer, String name, int size) throws IOException {
+        writeTagHeader(buffer, NBTType.LIST, name);
+        SERIALIZER.writeTagType(buffer, NBTType.COMPOUND);
+        ByteBufHelper.writeInt(buffer, size);
+    }
+
+    private static void writeString(Object buffer, String name, String value) throws IOException {
+        writeTagHeader(buffer, NBTType.STRING, name);
+        ByteBufNBTSerializer.writeUTF(buffer, value);
+    }
+
+    private static void writeBoolean(Object buffer, String name, boolean value) throws IOException {
+        writeTagHeader(buffer, NBTType.BYTE, name);
+        ByteBufHelper.writeByte(buffer, value ? 1 : 0);
+    }
+
+    private static void writeTagHeader(Object buffer, NBTType<?> type, String name) throws IOException {
+        SERIALIZER.writeTagType(buffer, type);
+        SERIALIZER.writeTagName(buffer, name);
+    }
+
+    private static boolean isPlainText(Component component) {
+        return component instanceof TextComponent && !component.hasStyling() && component.children().isEmpty();
+    }
+    // -------------------------------------------------
+
+    // -------------------- Reading --------------------
+    // Applies the same limits as reading the tree through ByteBufNBTSerializer does
+    private final class ComponentReader {
+
+        private final NBTLimiter limiter;
+        private final Object buffer;
+
+        private ComponentReader(NBTLimiter limiter, Object buffer) {
+            this.limiter = limiter;
+            this.buffer = buffer;
+        }
+
+        private Component readComponent(NBTType<?> type) throws IOException {
+            if (type == NBTType.COMPOUND) {
+                return new CompoundReader().read();
+            }
+            if (type == NBTType.STRING) { // Serialized as string
+                return Component.text(readString(type));
+            }
+            // Serialized as boolean or number, which are handled like the tree serializer does
+            return serializer.deserialize(SERIALIZER.readTag(this.limiter, this.buffer, type));
+        }
+
+        private List<Component> readComponentList(NBTType<?> type) throws IOException {
+            NBTType<?> valueType = readListHeader(type);
+            int size = readListSize(valueType);
+            if (size == 0) return Collections.emptyList();
+
+            List<Component> components = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                components.add(readComponent(valueType));
+            }
+            return components;
+        }
+
+        private List<TranslationArgument> readTranslationArguments(NBTType<?> type) throws IOException {
+            if (type == NBTType.INT_ARRAY) {
+                int[] params = ((NBTIntArray) SERIALIZER.readTag(this.limiter, this.buffer, type)).getValue();
+                List<TranslationArgument> args = new ArrayList<>(params.length);
+                for (int param : params) {
+                    args.add(TranslationArgument.numeric(param));
+                }
+                return args;
+            } else if (type == NBTType.BYTE_ARRAY) {
+                byte[] params = ((NBTByteArray) SERIALIZER.readTag(this.limiter, this.buffer, type)).getValue();
+                List<TranslationArgument> args = new ArrayList<>(params.length);
+                for (byte param : params) {
+                    args.add(TranslationArgument.bool(param != (byte) 0));
+                }
+                return args;
+            } else if (type == NBTType.LONG_ARRAY) {
+                long[] params = ((NBTLongArray) SERIALIZER.readTag(this.limiter, this.buffer, type)).getValue();
+                List<TranslationArgument> args = new ArrayList<>(params.length);
+                for (long param : params) {
+                    args.add(TranslationArgument.numeric(param));
+                }
+                return args;
+            }
+
+            NBTType<?> valueType = readListHeader(type);
+            int size = readListSize(valueType);
+            if (size == 0) return Collections.emptyList();
+
+            List<TranslationArgument> args = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (valueType == NBTType.BYTE) {
+                    args.add(TranslationArgument.bool(readNumber(valueType).byteValue() != (byte) 0));
+                } else if (valueType == NBTType.STRING) {
+                    args.add(TranslationArgument.component(Component.text(readString(valueType))));
+                } else if (valueType == NBTType.COMPOUND) {
+                    args.add(TranslationArgument.component(new CompoundReader().read()));
+                } else {
+                    args.add(TranslationArgument.numeric(readNumber(valueType).intValue()));
+                }
+            }
+            return args;
+        }
+
+        private NBTType<?> readListHeader(NBTType<?> type) throws IOException {
+            requireType(type, NBTType.LIST);
+            this.limiter.increment(37);
+            return SERIALIZER.readTagType(this.limiter, this.buffer);
+        }
+
+        private int readListSize(NBTType<?> valueType) {
+            int size = ByteBufHelper.readInt(this.buffer);
+            if (valueType == NBTType.END && size > 0) {
+                throw new IllegalStateException("Missing nbt list values tag type");
+            }
+            this.limiter.increment(4 * size);
+            return size;
+        }
+
+        private void readCompound(NBTType<?> type, TagConsumer consumer) throws IOException {
+            requireType(type, NBTType.COMPOUND);
+            this.limiter.increment(48);
+            NBTType<?> valueType;
+            while ((valueType = SERIALIZER.readTagType(this.limiter, this.buffer)) != NBTType.END) {
+                consumer.accept(SERIALIZER.readTagName(this.limiter, this.buffer), valueType);
+                this.limiter.increment(36);
+            }
+        }
+
+        private String readString(NBTType<?> type) throws IOException {
+            requireType(type, NBTType.STRING);
+            this.limiter.increment(36);
+            String string = ByteBufNBTSerializer.readUTF(this.buffer);
+            this.limiter.increment(string.length() * 2);
+            return string;
+        }
+
+        private Number readNumber(NBTType<?> type) throws IOException {
+            if (type == NBTType.BYTE) {
+                this.limiter.increment(9);
+                return ByteBufHelper.readByte(this.buffer);
+            }
+            NBT tag = SERIALIZER.readTag(this.limiter, this.buffer, type);
+            if (!(tag instanceof NBTNumber)) {
+                throw new IllegalArgumentException("Expected number but got " + type);
+            }
+            return ((NBTNumber) tag).getAsNumber();
+        }
+
+        private String readText(NBTType<?> type) throws IOException {
+            if (type == NBTType.STRING) {
+                return readString(type);
+            }
+            NBT tag = SERIALIZER.readTag(this.limiter, this.buffer, type);
+            if (type == NBTType.BYTE && ((NBTByte) tag).getAsByte() < 2) {
+                return String.valueOf(((NBTByte) tag).getAsByte() == 1);
+            } else if (tag instanceof NBTNumber) {
+                return String.valueOf(((NBTNumber) tag).getAsInt());
+            } else {
+                throw new IllegalStateException("Don't know how to deserialize " + type + " to text");
+            }
+        }
+
+        private final class CompoundReader {
+
+            private String text;
+            private String emptyText;
+            private String translate;
+            private String translateFallback;
+            private List<? extends ComponentLike> translateWith;
+            private boolean score;
+            private String scoreName;
+            private String scoreObjective;
+            private String selector;
+            private String keybind;
+            private String nbt;
+            private boolean nbtInterpret;
+            private BlockNBTComponent.Pos nbtBlock;
+            private String nbtEntity;
+            private Key nbtStorage;
+            private List<Component> extra;
+            private Component separator;
+            private final Style.Builder style = Style.style();
+            private @Nullable NBTCompound hoverEvent;
+
+            private Component read() throws IOException {
+                readCompound(NBTType.COMPOUND, this::readTag);
+
+                if (this.hoverEvent != null) {
+                    NBTCompound styleTags = new NBTCompound();
+                    styleTags.setTag("hoverEvent", this.hoverEvent);
+                    this.style.hoverEvent(serializer.deserializeStyle(styleTags).hoverEvent());
+                }
+                return this.build();
+            }
+
+            @SuppressWarnings("PatternValidation")
+            private void readTag(String name, NBTType<?> type) throws IOException {
+                switch (name) {
+                    case "text":
+                        this.text = readText(type);
+                        break;
+                    case "":
+                        this.emptyText = readText(type);
+                        break;
+                    case "translate":
+                        this.translate = readString(type);
+                        break;
+                    case "fallback":
+                        this.translateFallback = readString(type);
+                        break;
+                    case "with":
+                        this.translateWith = BackwardCompatUtil.IS_4_15_0_OR_NEWER
+                                ? readTranslationArguments(type) : readComponentList(type);
+                        break;
+                    case "score":
+                        this.score = true;
+                        readCompound(type, (key, keyType) -> {
+                            if (key.equals("name")) {
+                                this.scoreName = readString(keyType);
+                            } else if (key.equals("objective")) {
+                                this.scoreObjective = readString(keyType);
+                            } else {
+                                SERIALIZER.skipTag(limiter, buffer, keyType);
+                            }
+                        });
+                        break;
+                    case "selector":
+                        this.selector = readString(type);
+                        break;
+                    case "keybind":
+                        this.keybind = readString(type);
+                        break;
+                    case "nbt":
+                        this.nbt = readString(type);
+                        break;
+                    case "interpret":
+                        this.nbtInterpret = readNumber(type).byteValue() != 0;
+                        break;
+                    case "block":
+                        this.nbtBlock = BlockNBTComponent.Pos.fromString(readString(type));
+                        break;
+                    case "entity":
+                        this.nbtEntity = readString(type);
+                        break;
+                    case "storage":
+                        this.nbtStorage = Key.key(readString(type));
+                        break;
+                    case "extra":
+                        this.extra = readComponentList(type);
+                        break;
+                    case "separator":
+                        this.separator = readComponent(type);
+                        break;
+                    case "font":
+                        this.style.font(Key.key(readString(type)));
+                        break;
+                    case "color":
+                        TextColor color = serializer.deserializeColor(readString(type));
+                        if (color != null) this.style.color(color);
+                        break;
+                    case "shadow_color":
+                        if (BackwardCompatUtil.IS_4_18_0_OR_NEWER) {
+                            this.style.shadowColor(ShadowColor.shadowColor(readNumber(type).intValue()));
+                        } else {
+                            SERIALIZER.skipTag(limiter, buffer, type);
+                        }
+                        break;
+                    case "insertion":
+                        this.style.insertion(readString(type));
+                        break;
+                    case "clickEvent":
+                        String[] click = new String[2];
+                        readCompound(type, (key, keyType) -> {
+                            if (key.equals("action")) {
+                                click[0] = readString(keyType);
+                            } else if (key.equals("value")) {
+                                click[1] = readString(keyType);
+                            } else {
+                                SERIALIZER.skipTag(limiter, buffer, keyType);
+                            }
+                        });
+                        this.style.clickEvent(ClickEvent.clickEvent(
+                                click[0] == null ? null : ClickEvent.Action.NAMES.value(click[0]), click[1]));
+                        break;
+                    case "hoverEvent":
+                        requireType(type, NBTType.COMPOUND);
+                        this.hoverEvent = (NBTCompound) SERIALIZER.readTag(limiter, buffer, type);
+                        break;
+                    default:
+                        TextDecoration decoration = TextDecoration.NAMES.value(name);
+                        if (decoration != null) {
+                            this.style.decoration(decoration, TextDecoration.State.byBoolean(readNumber(type).byteValue() != 0));
+                        } else {
+                            SERIALIZER.skipTag(limiter, buffer, type);
+                        }
+                        break;
+                }
+            }
+
+            // Same precedence as AdventureNBTSerializer#deserialize
+            private Component build() {
+                String text = this.text != null ? this.text : this.emptyText;
+                ComponentBuilder<?, ?> builder;
+                if (text != null) {
+                    builder = Component.text().content(text);
+                } else if (this.translate != null) {
+                    TranslatableComponent.Builder i18nBuilder;
+                    builder = i18nBuilder = Component.translatable().key(this.translate);
+                    if (this.translateWith != null) {
+                        if (BackwardCompatUtil.IS_4_15_0_OR_NEWER) {
+                            i18nBuilder.arguments(this.translateWith);
+                        } else {
+                            i18nBuilder.args(this.translateWith);
+                        }
+                    }
+                    if (BackwardCompatUtil.IS_4_13_0_OR_NEWER) {
+                        i18nBuilder.fallback(this.translateFallback);
+                    }
+                } else if (this.score) {
+                    builder = Component.score().name(this.scoreName).objective(this.scoreObjective);
+                } else if (this.selector != null) {
+                    builder = Component.selector().pattern(this.selector).separator(this.separator);
+                } else if (this.keybind != null) {
+                    builder = Component.keybind().keybind(this.keybind);
+                } else if (this.nbt != null) {
+                    if (this.nbtBlock != null) {
+                        builder = Component.blockNBT()
+                                .nbtPath(this.nbt).interpret(this.nbtInterpret).separator(this.separator)
+                                .pos(this.nbtBlock);
+                    } else if (this.nbtEntity != null) {
+                        builder = Component.entityNBT()
+                                .nbtPath(this.nbt).interpret(this.nbtInterpret).separator(this.separator)
+                                .selector(this.nbtEntity);
+                    } else if (this.nbtStorage != null) {
+                        builder = Component.storageNBT()
+                                .nbtPath(this.nbt).interpret(this.nbtInterpret).separator(this.separator)
+                                .storage(this.nbtStorage);
+                    } else {
+                        throw new IllegalStateException("Illegal nbt component, block/entity/storage is missing");
+                    }
+                } else {
+                    throw new IllegalStateException("Illegal nbt component, component type could not be determined");
+                }
+
+                builder.style(this.style.build());
+
+                if (this.extra != null) {
+                    builder.append(this.extra);
+                }
+
+                return builder.build();
+            }
+        }
+    }
+
+    private static void requireType(NBTType<?> type, NBTType<?> required) {
+        if (type != required) {
+            throw new IllegalArgumentException("Expected " + required + " but got " + type);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TagConsumer {
+        void accept(String name, NBTType<?> type) throws IOException;
+    }
+    // -------------------------------------------------
+}
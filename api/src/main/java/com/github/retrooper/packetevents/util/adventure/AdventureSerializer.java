@@ -34,6 +34,7 @@ public class AdventureSerializer {
     private static GsonComponentSerializer GSON;
     private static LegacyComponentSerializer LEGACY;
     private static AdventureNBTSerializer NBT;
+    private static AdventureNBTStreamSerializer NBT_STREAM;
 
     public static GsonComponentSerializer getGsonSerializer() {
         if (GSON == null) {
@@ -78,6 +79,13 @@ public class AdventureSerializer {
         return NBT;
     }
 
+    public static AdventureNBTStreamSerializer getNBTStreamSerializer() {
+        if (NBT_STREAM == null) {
+            NBT_STREAM = new AdventureNBTStreamSerializer(getNBTSerializer());
+        }
+        return NBT_STREAM;
+    }
+
     public static String asVanilla(Component component) {
         return getLegacySerializer().serialize(component);
     }
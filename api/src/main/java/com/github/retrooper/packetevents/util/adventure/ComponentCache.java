@@ -0,0 +1,94 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.util.adventure;
+
+import com.github.retrooper.packetevents.util.StripedLruCache;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded cache of encoded components, keyed by the component and the format it was written in.
+ * Components are immutable, so components resent every tick, such as scoreboard lines or boss bar titles,
+ * are only serialized once.
+ * The serializers of {@link AdventureSerializer} are configured once, so their options are not part of the key.
+ * <p>
+ * Adventure does not cache the hash codes of components, so every lookup still walks the whole component tree
+ * to hash it, and once more to compare it on a hit. This is cheaper than serializing the tree,
+ * but not free, so the cache only pays off for components which are actually written repeatedly.
+ *
+ * @see com.github.retrooper.packetevents.settings.PacketEventsSettings#componentCacheSize(int)
+ */
+@ApiStatus.Internal
+public final class ComponentCache {
+
+    private static final StripedLruCache<Key, byte[]> CACHE = new StripedLruCache<>(16);
+
+    private ComponentCache() {
+    }
+
+    public static byte @Nullable [] get(Key key) {
+        return CACHE.get(key);
+    }
+
+    public static void put(Key key, byte[] encoded, int maxSize) {
+        CACHE.put(key, encoded, maxSize);
+    }
+
+    public enum Format {
+        /**
+         * Json string as written before 1.20.3
+         */
+        JSON,
+        /**
+         * Unnamed nbt as written since 1.20.3
+         */
+        NBT
+    }
+
+    public static final class Key {
+        private final Component component;
+        private final Format format;
+        // Json strings are cut off at the maximum message length
+        private final int maxLength;
+        // Hashing walks the whole component tree, only do it once per key
+        private final int hash;
+
+        public Key(Component component, Format format, int maxLength) {
+            this.component = component;
+            this.format = format;
+            this.maxLength = maxLength;
+            this.hash = 31 * (31 * component.hashCode() + format.ordinal()) + maxLength;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key key = (Key) obj;
+            return this.hash == key.hash && this.format == key.format && this.maxLength == key.maxLength
+                    && (this.component == key.component || this.component.equals(key.component));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.github.retrooper.packetevents.protocol.nbt.NBTString;
 import com.github.retrooper.packetevents.protocol.nbt.serializer.SequentialNBTReader;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
@@ -114,6 +115,40 @@ public class MappingHelper {
         }
     }
 
+    /**
+     * Flattens the registered id mappings into a table indexed by data index and id.
+     */
+    public static Object[][] createIdTable(Map<Byte, ? extends Map<Integer, ?>> typeIdMap) {
+        int size = 0;
+        for (byte index : typeIdMap.keySet()) {
+            size = Math.max(size, index + 1);
+        }
+        Object[][] table = new Object[size][];
+        for (Map.Entry<Byte, ? extends Map<Integer, ?>> entry : typeIdMap.entrySet()) {
+            if (entry.getKey() < 0) continue;
+            int length = 0;
+            for (int id : entry.getValue().keySet()) {
+                length = Math.max(length, id + 1);
+            }
+            Object[] row = new Object[length];
+            for (Map.Entry<Integer, ?> idEntry : entry.getValue().entrySet()) {
+                if (idEntry.getKey() >= 0) {
+                    row[idEntry.getKey()] = idEntry.getValue();
+                }
+            }
+            table[entry.getKey()] = row;
+        }
+        return table;
+    }
+
+    public static @Nullable Object getFromIdTable(Object[][] table, int index, int id) {
+        if (index < 0 || index >= table.length) {
+            return null;
+        }
+        Object[] row = table[index];
+        return row != null && id >= 0 && id < row.length ? row[id] : null;
+    }
+
     public static int getId(ClientVersion version, TypesBuilder builder, TypesBuilderData data) {
         return data.getData()[builder.getDataIndex(version)];
     }
@@ -37,6 +37,7 @@ public final class VersionedRegistry<T extends MappedEntity> implements IRegistr
 
     private final Map<String, T> typeMap = new HashMap<>();
     private final Map<Byte, Map<Integer, T>> typeIdMap = new HashMap<>();
+    private volatile Object[][] typeIdTable;
 
     public VersionedRegistry(String registry, String mappingsPath) {
         this(new ResourceLocation(registry), mappingsPath);
@@ -52,6 +53,7 @@ public final class VersionedRegistry<T extends MappedEntity> implements IRegistr
     public <Z extends T> Z define(String name, Function<TypesBuilderData, Z> builder) {
         Z instance = builder.apply(this.typesBuilder.define(name));
         MappingHelper.registerMapping(this.typesBuilder, this.typeMap, this.typeIdMap, instance);
+        this.typeIdTable = null;
         return instance;
     }
 
@@ -73,9 +75,11 @@ public final class VersionedRegistry<T extends MappedEntity> implements IRegistr
 
     @Override
     public @Nullable T getById(ClientVersion version, int id) {
-        int index = this.typesBuilder.getDataIndex(version);
-        Map<Integer, T> idMap = this.typeIdMap.get((byte) index);
-        return idMap.get(id);
+        Object[][] table = this.typeIdTable;
+        if (table == null) {
+            this.typeIdTable = table = MappingHelper.createIdTable(this.typeIdMap);
+        }
+        return (T) MappingHelper.getFromIdTable(table, this.typesBuilder.getDataIndex(version), id);
     }
 
     @Override
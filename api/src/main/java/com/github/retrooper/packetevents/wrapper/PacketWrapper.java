@@ -82,6 +82,7 @@ import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.player.GameMode;
+import com.github.retrooper.packetevents.protocol.player.ProtocolProfile;
 import com.github.retrooper.packetevents.protocol.player.PublicProfileKey;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.protocol.recipe.data.MerchantItemCost;
@@ -94,6 +95,7 @@ import com.github.retrooper.packetevents.util.MathUtil;
 import com.github.retrooper.packetevents.util.StringUtil;
 import com.github.retrooper.packetevents.util.Vector3i;
 import com.github.retrooper.packetevents.util.adventure.AdventureSerializer;
+import com.github.retrooper.packetevents.util.adventure.ComponentCache;
 import com.github.retrooper.packetevents.util.crypto.MinecraftEncryptionUtil;
 import com.github.retrooper.packetevents.util.crypto.SaltSignature;
 import com.github.retrooper.packetevents.util.crypto.SignatureData;
@@ -123,6 +125,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
@@ -139,9 +142,11 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     // For sending chunk data packets, which need this data
     @Nullable
     protected User user;
-
-    private static final int MODERN_MESSAGE_LENGTH = 262144;
-    private static final int LEGACY_MESSAGE_LENGTH = 32767;
+    // Whether a setter was invoked since the data was read
+    private boolean dirty;
+    // Resolved from the server version once it is needed, reset whenever the server version changes
+    @Nullable
+    private ProtocolProfile profile;
 
     public PacketWrapper(ClientVersion clientVersion, ServerVersion serverVersion, int packetID) {
         if (packetID == -1) {
@@ -241,6 +246,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
             }
             //Change local version to user version so that the packet can be processed correctly.
             serverVersion = user.getClientVersion().toServerVersion();
+            profile = null;
             int id = packetTypeData.getPacketType().getId(user.getClientVersion());
             writeVarInt(id);
         } else {
@@ -276,9 +282,29 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         } else {
             read();
         }
+        // Reading the data is no modification, but modifications of the previous wrapper are carried over
+        this.dirty = last != null && last.dirty;
         event.setLastUsedWrapper(this);
     }
 
+    /**
+     * Marks this wrapper as modified. Setters do this automatically, but if you modify
+     * the wrapper's data in another way (such as changing a list returned by a getter),
+     * call this to make sure the packet is re-encoded.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Whether this wrapper was modified since its data was read.
+     *
+     * @return Was a setter invoked or {@link #markDirty()} called?
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
     public ClientVersion getClientVersion() {
         return clientVersion;
     }
@@ -293,6 +319,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
 
     public void setServerVersion(ServerVersion serverVersion) {
         this.serverVersion = serverVersion;
+        this.profile = null;
     }
 
     public Object getBuffer() {
@@ -337,8 +364,16 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         return packetTypeData;
     }
 
+    public ProtocolProfile getProtocolProfile() {
+        ProtocolProfile profile = this.profile;
+        if (profile == null) {
+            this.profile = profile = ProtocolProfile.of(serverVersion.toClientVersion());
+        }
+        return profile;
+    }
+
     public int getMaxMessageLength() {
-        return serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13) ? MODERN_MESSAGE_LENGTH : LEGACY_MESSAGE_LENGTH;
+        return getProtocolProfile().getMaxMessageLength();
     }
 
     @Deprecated
@@ -387,18 +422,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public int readVarInt() {
-        int value = 0;
-        int length = 0;
-        byte currentByte;
-        do {
-            currentByte = readByte();
-            value |= (currentByte & 0x7F) << (length * 7);
-            length++;
-            if (length > 5) {
-                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
-            }
-        } while ((currentByte & 0x80) == 0x80);
-        return value;
+        return ByteBufHelper.readVarInt(buffer);
     }
 
     public void writeVarInt(int value) {
@@ -673,10 +697,17 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         if (substr) {
             s = StringUtil.maximizeLength(s, maxLen);
         }
-        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
-        if (!substr && bytes.length > maxLen) {
-            throw new IllegalStateException("String too big (was " + bytes.length + " bytes encoded, max " + maxLen + ")");
-        } else {
+        // Count the encoded bytes first, so the string can be encoded straight into the buffer
+        int length = StringUtil.utf8Length(s);
+        if (!substr && length > maxLen) {
+            throw new IllegalStateException("String too big (was " + length + " bytes encoded, max " + maxLen + ")");
+        }
+        int writerIndex = ByteBufHelper.writerIndex(buffer);
+        writeVarInt(length);
+        if (ByteBufHelper.writeUtf8(buffer, s) != length) {
+            // Platforms may replace malformed surrogates differently, encode them like we counted them
+            ByteBufHelper.writerIndex(buffer, writerIndex);
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
             writeVarInt(bytes.length);
             ByteBufHelper.writeBytes(buffer, bytes);
         }
@@ -694,7 +725,11 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public Component readComponentAsNBT() {
-        return AdventureSerializer.fromNbt(readNBTRaw());
+        if (this.serverVersion.isOlderThan(ServerVersion.V_1_20_2)) {
+            return AdventureSerializer.fromNbt(readNBTRaw());
+        }
+        // Unnamed nbt can be read straight into the component
+        return AdventureSerializer.getNBTStreamSerializer().readComponent(NBTLimiter.forBuffer(this.buffer), this.buffer);
     }
 
     public Component readComponentAsJSON() {
@@ -711,12 +746,38 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public void writeComponentAsNBT(Component component) {
-        writeNBTRaw(AdventureSerializer.toNbt(component));
+        if (this.serverVersion.isOlderThan(ServerVersion.V_1_20_2)) {
+            writeNBTRaw(AdventureSerializer.toNbt(component));
+            return;
+        }
+        this.writeComponentCached(component, ComponentCache.Format.NBT, 0, c ->
+                AdventureSerializer.getNBTStreamSerializer().writeComponent(this.buffer, c));
     }
 
     public void writeComponentAsJSON(Component component) {
-        String jsonString = AdventureSerializer.toJson(component);
-        this.writeString(jsonString, this.getMaxMessageLength());
+        int maxLength = this.getMaxMessageLength();
+        this.writeComponentCached(component, ComponentCache.Format.JSON, maxLength, c ->
+                this.writeString(AdventureSerializer.toJson(c), maxLength));
+    }
+
+    private void writeComponentCached(Component component, ComponentCache.Format format, int maxLength,
+                                      Consumer<Component> writer) {
+        int cacheSize = PacketEvents.getAPI() != null ? PacketEvents.getAPI().getSettings().getComponentCacheSize() : 0;
+        if (cacheSize <= 0) {
+            writer.accept(component);
+            return;
+        }
+        ComponentCache.Key key = new ComponentCache.Key(component, format, maxLength);
+        byte[] encoded = ComponentCache.get(key);
+        if (encoded != null) {
+            ByteBufHelper.writeBytes(this.buffer, encoded);
+            return;
+        }
+        int start = ByteBufHelper.writerIndex(this.buffer);
+        writer.accept(component);
+        encoded = new byte[ByteBufHelper.writerIndex(this.buffer) - start];
+        ByteBufHelper.getBytes(this.buffer, start, encoded);
+        ComponentCache.put(key, encoded, cacheSize);
     }
 
     public Style readStyle() {
@@ -786,13 +847,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public long readVarLong() {
-        long value = 0;
-        int size = 0;
-        int b;
-        while (((b = readByte()) & 0x80) == 0x80) {
-            value |= (long) (b & 0x7F) << (size++ * 7);
-        }
-        return value | ((long) (b & 0x7F) << (size * 7));
+        return ByteBufHelper.readVarLong(buffer);
     }
 
     public void writeVarLong(long l) {
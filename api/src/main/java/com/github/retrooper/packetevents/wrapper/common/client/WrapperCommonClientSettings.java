@@ -137,6 +137,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setLocale(String locale) {
+        markDirty();
         this.locale = locale;
     }
 
@@ -145,6 +146,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setViewDistance(int viewDistance) {
+        markDirty();
         this.viewDistance = viewDistance;
     }
 
@@ -153,6 +155,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setChatVisibility(ChatVisibility chatVisibility) {
+        markDirty();
         this.chatVisibility = chatVisibility;
     }
 
@@ -161,6 +164,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setChatColors(boolean chatColors) {
+        markDirty();
         this.chatColors = chatColors;
     }
 
@@ -169,6 +173,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setSkinMask(byte skinMask) {
+        markDirty();
         this.skinMask = skinMask;
     }
 
@@ -177,6 +182,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setVisibleSkinSections(SkinSection visibleSkinSection) {
+        markDirty();
         this.skinMask = visibleSkinSection.getMask();
     }
 
@@ -185,6 +191,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setSkinSectionVisible(SkinSection section, boolean visible) {
+        markDirty();
         this.skinMask = section.set(this.skinMask, visible);
     }
 
@@ -193,6 +200,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setMainHand(HumanoidArm mainHand) {
+        markDirty();
         this.mainHand = mainHand;
     }
 
@@ -201,6 +209,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setTextFilteringEnabled(boolean textFilteringEnabled) {
+        markDirty();
         this.textFilteringEnabled = textFilteringEnabled;
     }
 
@@ -209,6 +218,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setServerListingAllowed(boolean allowServerListings) {
+        markDirty();
         this.allowServerListings = allowServerListings;
     }
 
@@ -217,6 +227,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setParticleStatus(ParticleStatus particleStatus) {
+        markDirty();
         this.particleStatus = particleStatus;
     }
 
@@ -233,6 +244,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
      */
     @ApiStatus.Obsolete
     public void setIgnoredDifficulty(byte ignoredDifficulty) {
+        markDirty();
         this.ignoredDifficulty = ignoredDifficulty;
     }
 
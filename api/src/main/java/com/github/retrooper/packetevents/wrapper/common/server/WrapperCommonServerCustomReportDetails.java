@@ -66,6 +66,7 @@ public abstract class WrapperCommonServerCustomReportDetails<T extends WrapperCo
     }
 
     public void setDetails(Map<String, String> details) {
+        markDirty();
         this.details = details;
     }
 }
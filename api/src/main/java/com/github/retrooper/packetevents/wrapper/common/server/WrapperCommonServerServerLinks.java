@@ -60,6 +60,7 @@ public abstract class WrapperCommonServerServerLinks<T extends WrapperCommonServ
     }
 
     public void setLinks(List<ServerLink> links) {
+        markDirty();
         this.links = links;
     }
 
@@ -58,6 +58,7 @@ public class WrapperConfigClientSelectKnownPacks extends PacketWrapper<WrapperCo
     }
 
     public void setKnownPacks(List<KnownPack> knownPacks) {
+        markDirty();
         this.knownPacks = knownPacks;
     }
 }
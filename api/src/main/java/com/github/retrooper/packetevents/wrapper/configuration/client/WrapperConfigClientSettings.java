@@ -58,6 +58,7 @@ public class WrapperConfigClientSettings extends WrapperCommonClientSettings<Wra
 
     @Deprecated
     public void setVisibility(ChatVisibility visibility) {
+        markDirty();
         this.setChatVisibility(visibility.modern);
     }
 
@@ -68,6 +69,7 @@ public class WrapperConfigClientSettings extends WrapperCommonClientSettings<Wra
 
     @Deprecated
     public void setChatColorable(boolean chatColorable) {
+        markDirty();
         this.setChatColors(chatColorable);
     }
 
@@ -78,6 +80,7 @@ public class WrapperConfigClientSettings extends WrapperCommonClientSettings<Wra
 
     @Deprecated
     public void setVisibleSkinSectionMask(byte visibleSkinSectionMask) {
+        markDirty();
         this.setSkinMask(visibleSkinSectionMask);
     }
 
@@ -88,6 +91,7 @@ public class WrapperConfigClientSettings extends WrapperCommonClientSettings<Wra
 
     @Deprecated
     public void setHand(HumanoidArm hand) {
+        markDirty();
         this.setMainHand(hand);
     }
 
@@ -98,6 +102,7 @@ public class WrapperConfigClientSettings extends WrapperCommonClientSettings<Wra
 
     @Deprecated
     public void setAllowServerListings(boolean allowServerListings) {
+        markDirty();
         this.setServerListingAllowed(allowServerListings);
     }
 
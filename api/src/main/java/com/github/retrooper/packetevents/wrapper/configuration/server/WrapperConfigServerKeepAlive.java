@@ -55,6 +55,7 @@ public class WrapperConfigServerKeepAlive extends PacketWrapper<WrapperConfigSer
     }
 
     public void setId(long id) {
+        markDirty();
         this.id = id;
     }
 }
@@ -69,6 +69,7 @@ public class WrapperConfigServerPluginMessage extends PacketWrapper<WrapperConfi
     }
 
     public void setChannelName(String channelName) {
+        markDirty();
         this.channelName = channelName;
     }
 
@@ -77,6 +78,7 @@ public class WrapperConfigServerPluginMessage extends PacketWrapper<WrapperConfi
     }
 
     public void setData(byte[] data) {
+        markDirty();
         this.data = data;
     }
 }
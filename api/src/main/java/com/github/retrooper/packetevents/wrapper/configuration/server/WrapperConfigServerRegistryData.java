@@ -114,6 +114,7 @@ public class WrapperConfigServerRegistryData extends PacketWrapper<WrapperConfig
 
     @ApiStatus.Obsolete
     public void setRegistryData(NBTCompound registryData) {
+        markDirty();
         this.registryData = registryData;
     }
 
@@ -122,6 +123,7 @@ public class WrapperConfigServerRegistryData extends PacketWrapper<WrapperConfig
     }
 
     public void setRegistryKey(ResourceLocation registryKey) {
+        markDirty();
         this.registryKey = registryKey;
     }
 
@@ -130,6 +132,7 @@ public class WrapperConfigServerRegistryData extends PacketWrapper<WrapperConfig
     }
 
     public void setElements(List<RegistryElement> elements) {
+        markDirty();
         this.elements = elements;
     }
 
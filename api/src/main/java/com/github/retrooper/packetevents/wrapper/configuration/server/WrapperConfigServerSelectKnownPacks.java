@@ -58,6 +58,7 @@ public class WrapperConfigServerSelectKnownPacks extends PacketWrapper<WrapperCo
     }
 
     public void setKnownPacks(List<KnownPack> knownPacks) {
+        markDirty();
         this.knownPacks = knownPacks;
     }
 }
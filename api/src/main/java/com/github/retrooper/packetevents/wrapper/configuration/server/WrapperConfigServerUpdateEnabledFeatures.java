@@ -59,6 +59,7 @@ public class WrapperConfigServerUpdateEnabledFeatures extends PacketWrapper<Wrap
     }
 
     public void setFeatures(Set<ResourceLocation> features) {
+        markDirty();
         this.features = features;
     }
 }
@@ -100,6 +100,7 @@ public class WrapperHandshakingClientHandshake extends PacketWrapper<WrapperHand
     }
 
     public void setProtocolVersion(int protocolVersion) {
+        markDirty();
         this.protocolVersion = protocolVersion;
         this.clientVersion = ClientVersion.getById(protocolVersion);
     }
@@ -115,6 +116,7 @@ public class WrapperHandshakingClientHandshake extends PacketWrapper<WrapperHand
     }
 
     public void setClientVersion(ClientVersion clientVersion) {
+        markDirty();
         this.clientVersion = clientVersion;
         this.protocolVersion = clientVersion.getProtocolVersion();
     }
@@ -129,6 +131,7 @@ public class WrapperHandshakingClientHandshake extends PacketWrapper<WrapperHand
     }
 
     public void setServerAddress(String serverAddress) {
+        markDirty();
         this.serverAddress = serverAddress;
     }
 
@@ -142,6 +145,7 @@ public class WrapperHandshakingClientHandshake extends PacketWrapper<WrapperHand
     }
 
     public void setServerPort(int serverPort) {
+        markDirty();
         this.serverPort = serverPort;
     }
 
@@ -159,6 +163,7 @@ public class WrapperHandshakingClientHandshake extends PacketWrapper<WrapperHand
      * @deprecated use {@link #setIntention(ConnectionIntention)}
      */
     public void setNextConnectionState(ConnectionState nextConnectionState) {
+        markDirty();
         switch (nextConnectionState) {
             case LOGIN:
                 this.intention = ConnectionIntention.LOGIN;
@@ -176,6 +181,7 @@ public class WrapperHandshakingClientHandshake extends PacketWrapper<WrapperHand
     }
 
     public void setIntention(ConnectionIntention intention) {
+        markDirty();
         this.intention = intention;
     }
 
@@ -95,6 +95,7 @@ public class WrapperLoginClientEncryptionResponse extends PacketWrapper<WrapperL
     }
 
     public void setEncryptedSharedSecret(byte[] encryptedSharedSecret) {
+        markDirty();
         this.encryptedSharedSecret = encryptedSharedSecret;
     }
 
@@ -110,6 +111,7 @@ public class WrapperLoginClientEncryptionResponse extends PacketWrapper<WrapperL
 
     //TODO: Confirm is this is correct
     public void setSharedKey(SecretKey key, PublicKey publicKey) {
+        markDirty();
         this.encryptedSharedSecret = MinecraftEncryptionUtil.encrypt(publicKey.getAlgorithm(), publicKey, key.getEncoded());
     }
 
@@ -118,6 +120,7 @@ public class WrapperLoginClientEncryptionResponse extends PacketWrapper<WrapperL
     }
 
     public void setEncryptedVerifyToken(byte[] encryptedVerifyToken) {
+        markDirty();
         this.encryptedVerifyToken = encryptedVerifyToken;
     }
 
@@ -126,6 +129,7 @@ public class WrapperLoginClientEncryptionResponse extends PacketWrapper<WrapperL
     }
 
     public void setSaltSignature(@Nullable SaltSignature saltSignature) {
+        markDirty();
         this.saltSignature = saltSignature;
     }
 }
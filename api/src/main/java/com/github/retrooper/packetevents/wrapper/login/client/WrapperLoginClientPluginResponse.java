@@ -72,6 +72,7 @@ public class WrapperLoginClientPluginResponse extends PacketWrapper<WrapperLogin
     }
 
     public void setMessageId(int messageID) {
+        markDirty();
         this.messageID = messageID;
     }
 
@@ -80,6 +81,7 @@ public class WrapperLoginClientPluginResponse extends PacketWrapper<WrapperLogin
     }
 
     public void setSuccessful(boolean successful) {
+        markDirty();
         this.successful = successful;
     }
 
@@ -88,6 +90,7 @@ public class WrapperLoginClientPluginResponse extends PacketWrapper<WrapperLogin
     }
 
     public void setData(byte[] data) {
+        markDirty();
         this.data = data;
     }
 }
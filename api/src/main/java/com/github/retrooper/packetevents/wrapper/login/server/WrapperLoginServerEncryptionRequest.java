@@ -104,6 +104,7 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setServerId(String serverID) {
+        markDirty();
         this.serverID = serverID;
     }
 
@@ -112,6 +113,7 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setPublicKeyBytes(byte[] publicKeyBytes) {
+        markDirty();
         this.publicKeyBytes = publicKeyBytes;
     }
 
@@ -128,6 +130,7 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setPublicKey(PublicKey publicKey) {
+        markDirty();
         this.publicKeyBytes = publicKey.getEncoded();
     }
 
@@ -142,6 +145,7 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setVerifyToken(byte[] verifyToken) {
+        markDirty();
         this.verifyToken = verifyToken;
     }
 
@@ -150,6 +154,7 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setShouldAuthenticate(boolean shouldAuthenticate) {
+        markDirty();
         this.shouldAuthenticate = shouldAuthenticate;
     }
 }
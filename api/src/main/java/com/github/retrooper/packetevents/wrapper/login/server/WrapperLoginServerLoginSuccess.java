@@ -117,6 +117,7 @@ public class WrapperLoginServerLoginSuccess extends PacketWrapper<WrapperLoginSe
     }
 
     public void setUserProfile(UserProfile userProfile) {
+        markDirty();
         this.userProfile = userProfile;
     }
 
@@ -133,6 +134,7 @@ public class WrapperLoginServerLoginSuccess extends PacketWrapper<WrapperLoginSe
      */
     @ApiStatus.Obsolete
     public void setStrictErrorHandling(boolean strictErrorHandling) {
+        markDirty();
         this.strictErrorHandling = strictErrorHandling;
     }
 }
@@ -65,6 +65,7 @@ public class WrapperLoginServerPluginRequest extends PacketWrapper<WrapperLoginS
     }
 
     public void setMessageId(int messageID) {
+        markDirty();
         this.messageID = messageID;
     }
 
@@ -73,6 +74,7 @@ public class WrapperLoginServerPluginRequest extends PacketWrapper<WrapperLoginS
     }
 
     public void setChannelName(String channelName) {
+        markDirty();
         this.channelName = channelName;
     }
 
@@ -81,6 +83,7 @@ public class WrapperLoginServerPluginRequest extends PacketWrapper<WrapperLoginS
     }
 
     public void setData(byte[] data) {
+        markDirty();
         this.data = data;
     }
 }
\ No newline at end of file
@@ -71,6 +71,7 @@ public class WrapperPlayClientChatAck extends PacketWrapper<WrapperPlayClientCha
     }
 
     public void setOffset(int offset) {
+        markDirty();
         this.offset = offset;
     }
 
@@ -79,6 +80,7 @@ public class WrapperPlayClientChatAck extends PacketWrapper<WrapperPlayClientCha
     }
 
     public void setLastSeenMessages(LastSeenMessages.LegacyUpdate lastSeenMessages) {
+        markDirty();
         this.lastSeenMessages = lastSeenMessages;
     }
 }
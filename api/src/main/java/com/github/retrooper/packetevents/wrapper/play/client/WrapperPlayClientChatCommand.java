@@ -93,6 +93,7 @@ public class WrapperPlayClientChatCommand extends PacketWrapper<WrapperPlayClien
     }
 
     public void setCommand(String command) {
+        markDirty();
         this.command = command;
     }
 
@@ -101,6 +102,7 @@ public class WrapperPlayClientChatCommand extends PacketWrapper<WrapperPlayClien
     }
 
     public void setMessageSignData(MessageSignData messageSignData) {
+        markDirty();
         this.messageSignData = messageSignData;
     }
 
@@ -109,6 +111,7 @@ public class WrapperPlayClientChatCommand extends PacketWrapper<WrapperPlayClien
     }
 
     public void setSignedArguments(List<SignedCommandArgument> signedArguments) {
+        markDirty();
         this.signedArguments = signedArguments;
     }
 
@@ -117,6 +120,7 @@ public class WrapperPlayClientChatCommand extends PacketWrapper<WrapperPlayClien
     }
 
     public void setLastSeenMessages(LastSeenMessages.@Nullable Update lastSeenMessages) {
+        markDirty();
         this.lastSeenMessages = lastSeenMessages;
     }
 
@@ -125,6 +129,7 @@ public class WrapperPlayClientChatCommand extends PacketWrapper<WrapperPlayClien
     }
 
     public void setLegacyLastSeenMessages(@Nullable LastSeenMessages.LegacyUpdate lastSeenMessages) {
+        markDirty();
         this.legacyLastSeenMessages = lastSeenMessages;
     }
 }
\ No newline at end of file
@@ -128,6 +128,7 @@ public class WrapperPlayClientChatMessage extends PacketWrapper<WrapperPlayClien
      * @param message Message
      */
     public void setMessage(String message) {
+        markDirty();
         this.message = message;
     }
 
@@ -136,6 +137,7 @@ public class WrapperPlayClientChatMessage extends PacketWrapper<WrapperPlayClien
     }
 
     public void setMessageSignData(@Nullable MessageSignData messageSignData) {
+        markDirty();
         this.messageSignData = messageSignData;
     }
 
@@ -144,6 +146,7 @@ public class WrapperPlayClientChatMessage extends PacketWrapper<WrapperPlayClien
     }
 
     public void setLastSeenMessages(LastSeenMessages.@Nullable Update lastSeenMessages) {
+        markDirty();
         this.lastSeenMessages = lastSeenMessages;
     }
 
@@ -152,6 +155,7 @@ public class WrapperPlayClientChatMessage extends PacketWrapper<WrapperPlayClien
     }
 
     public void setLegacyLastSeenMessages(@Nullable LastSeenMessages.LegacyUpdate lastSeenMessages) {
+        markDirty();
         this.legacyLastSeenMessages = lastSeenMessages;
     }
 }
@@ -102,6 +102,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setWindowId(int windowId) {
+        markDirty();
         this.windowId = windowId;
     }
 
@@ -120,6 +121,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
      */
     @Deprecated
     public <T> void setRecipe(T recipe) {
+        markDirty();
         if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) {
             this.recipeKey = new ResourceLocation((String) recipe);
         } else {
@@ -132,6 +134,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setRecipeKey(ResourceLocation recipeKey) {
+        markDirty();
         this.recipeKey = recipeKey;
     }
 
@@ -140,6 +143,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setRecipeId(RecipeDisplayId recipeId) {
+        markDirty();
         this.recipeId = recipeId;
     }
 
@@ -148,6 +152,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setMakeAll(boolean makeAll) {
+        markDirty();
         this.makeAll = makeAll;
     }
 }
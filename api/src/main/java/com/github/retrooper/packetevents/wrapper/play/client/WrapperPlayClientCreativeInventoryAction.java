@@ -62,6 +62,7 @@ public class WrapperPlayClientCreativeInventoryAction extends PacketWrapper<Wrap
     }
 
     public void setSlot(int slot) {
+        markDirty();
         this.slot = slot;
     }
 
@@ -70,6 +71,7 @@ public class WrapperPlayClientCreativeInventoryAction extends PacketWrapper<Wrap
     }
 
     public void setItemStack(ItemStack itemStack) {
+        markDirty();
         this.itemStack = itemStack;
     }
 }
@@ -103,6 +103,7 @@ public class WrapperPlayClientEditBook extends PacketWrapper<WrapperPlayClientEd
     }
 
     public void setSlot(int slot) {
+        markDirty();
         this.slot = slot;
     }
 
@@ -111,6 +112,7 @@ public class WrapperPlayClientEditBook extends PacketWrapper<WrapperPlayClientEd
     }
 
     public void setPages(List<String> pages) {
+        markDirty();
         this.pages = pages;
     }
 
@@ -119,6 +121,7 @@ public class WrapperPlayClientEditBook extends PacketWrapper<WrapperPlayClientEd
     }
 
     public void setTitle(@Nullable String title) {
+        markDirty();
         this.title = title;
     }
 }
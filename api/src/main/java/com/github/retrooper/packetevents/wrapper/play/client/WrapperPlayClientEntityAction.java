@@ -76,6 +76,7 @@ public class WrapperPlayClientEntityAction extends PacketWrapper<WrapperPlayClie
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -84,6 +85,7 @@ public class WrapperPlayClientEntityAction extends PacketWrapper<WrapperPlayClie
     }
 
     public void setAction(Action action) {
+        markDirty();
         this.action = action;
     }
 
@@ -92,6 +94,7 @@ public class WrapperPlayClientEntityAction extends PacketWrapper<WrapperPlayClie
     }
 
     public void setJumpBoost(int jumpBoost) {
+        markDirty();
         this.jumpBoost = jumpBoost;
     }
 
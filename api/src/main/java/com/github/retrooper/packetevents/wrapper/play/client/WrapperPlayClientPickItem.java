@@ -59,6 +59,7 @@ public class WrapperPlayClientPickItem extends PacketWrapper<WrapperPlayClientPi
     }
 
     public void setSlot(int slot) {
+        markDirty();
         this.slot = slot;
     }
 }
@@ -64,6 +64,7 @@ public class WrapperPlayClientPickItemFromBlock extends PacketWrapper<WrapperPla
     }
 
     public void setBlockPos(Vector3i blockPos) {
+        markDirty();
         this.blockPos = blockPos;
     }
 
@@ -72,6 +73,7 @@ public class WrapperPlayClientPickItemFromBlock extends PacketWrapper<WrapperPla
     }
 
     public void setIncludeData(boolean includeData) {
+        markDirty();
         this.includeData = includeData;
     }
 }
@@ -63,6 +63,7 @@ public class WrapperPlayClientPickItemFromEntity extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -71,6 +72,7 @@ public class WrapperPlayClientPickItemFromEntity extends PacketWrapper<WrapperPl
     }
 
     public void setIncludeData(boolean includeData) {
+        markDirty();
         this.includeData = includeData;
     }
 }
@@ -172,6 +172,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setHand(InteractionHand interactionHand) {
+        markDirty();
         this.interactionHand = interactionHand;
     }
 
@@ -180,6 +181,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -188,6 +190,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setFaceId(int faceId) {
+        markDirty();
         this.faceId = faceId;
         this.face = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)
                 ? BlockFace.getBlockFaceByValue(faceId)
@@ -199,6 +202,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setFace(BlockFace face) {
+        markDirty();
         this.face = face;
         this.faceId = face.getFaceValue();
     }
@@ -208,6 +212,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setCursorPosition(Vector3f cursorPosition) {
+        markDirty();
         this.cursorPosition = cursorPosition;
     }
 
@@ -216,6 +221,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setItemStack(Optional<ItemStack> itemStack) {
+        markDirty();
         this.itemStack = itemStack;
     }
 
@@ -224,6 +230,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setInsideBlock(Optional<Boolean> insideBlock) {
+        markDirty();
         this.insideBlock = insideBlock;
     }
 
@@ -232,6 +239,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setWorldBorderHit(Optional<Boolean> worldBorderHit) {
+        markDirty();
         this.worldBorderHit = worldBorderHit;
     }
 
@@ -240,6 +248,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setSequence(int sequence) {
+        markDirty();
         this.sequence = sequence;
     }
 }
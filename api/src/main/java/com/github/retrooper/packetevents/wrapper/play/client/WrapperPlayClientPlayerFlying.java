@@ -121,6 +121,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setLocation(Location location) {
+        markDirty();
         this.location = location;
     }
 
@@ -129,6 +130,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setPositionChanged(boolean positionChanged) {
+        markDirty();
         this.positionChanged = positionChanged;
     }
 
@@ -137,6 +139,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setRotationChanged(boolean rotationChanged) {
+        markDirty();
         this.rotationChanged = rotationChanged;
     }
 
@@ -145,6 +148,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setOnGround(boolean onGround) {
+        markDirty();
         this.onGround = onGround;
     }
 
@@ -153,6 +157,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setHorizontalCollision(boolean horizontalCollision) {
+        markDirty();
         this.horizontalCollision = horizontalCollision;
     }
 }
@@ -99,6 +99,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setForward(boolean forward) {
+        markDirty();
         this.forward = forward;
     }
 
@@ -107,6 +108,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setBackward(boolean backward) {
+        markDirty();
         this.backward = backward;
     }
 
@@ -115,6 +117,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setLeft(boolean left) {
+        markDirty();
         this.left = left;
     }
 
@@ -123,6 +126,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setRight(boolean right) {
+        markDirty();
         this.right = right;
     }
 
@@ -131,6 +135,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setJump(boolean jump) {
+        markDirty();
         this.jump = jump;
     }
 
@@ -139,6 +144,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setShift(boolean shift) {
+        markDirty();
         this.shift = shift;
     }
 
@@ -147,6 +153,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setSprint(boolean sprint) {
+        markDirty();
         this.sprint = sprint;
     }
 }
@@ -60,6 +60,7 @@ public class WrapperPlayClientQueryBlockNBT extends PacketWrapper<WrapperPlayCli
     }
 
     public void setTransactionId(int transactionID) {
+        markDirty();
         this.transactionID = transactionID;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayClientQueryBlockNBT extends PacketWrapper<WrapperPlayCli
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        markDirty();
         this.blockPosition = blockPosition;
     }
 }
@@ -92,6 +92,7 @@ public class WrapperPlayClientResourcePackStatus extends PacketWrapper<WrapperPl
     }
 
     public void setPackId(UUID packId) {
+        markDirty();
         this.packId = packId;
     }
 
@@ -100,6 +101,7 @@ public class WrapperPlayClientResourcePackStatus extends PacketWrapper<WrapperPl
     }
 
     public void setResult(Result result) {
+        markDirty();
         this.result = result;
     }
 
@@ -108,6 +110,7 @@ public class WrapperPlayClientResourcePackStatus extends PacketWrapper<WrapperPl
     }
 
     public void setHash(String hash) {
+        markDirty();
         this.hash = hash;
     }
 
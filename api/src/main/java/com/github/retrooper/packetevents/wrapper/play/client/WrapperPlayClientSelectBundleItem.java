@@ -60,6 +60,7 @@ public class WrapperPlayClientSelectBundleItem extends PacketWrapper<WrapperPlay
     }
 
     public void setSlotId(int slotId) {
+        markDirty();
         this.slotId = slotId;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayClientSelectBundleItem extends PacketWrapper<WrapperPlay
     }
 
     public void setSelectedItemIndex(int selectedItemIndex) {
+        markDirty();
         this.selectedItemIndex = selectedItemIndex;
     }
 }
@@ -55,6 +55,7 @@ public class WrapperPlayClientSetDifficulty extends PacketWrapper<WrapperPlayCli
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        markDirty();
         this.difficulty = difficulty;
     }
 }
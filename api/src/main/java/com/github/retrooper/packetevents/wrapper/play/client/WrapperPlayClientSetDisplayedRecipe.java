@@ -91,6 +91,7 @@ public class WrapperPlayClientSetDisplayedRecipe extends PacketWrapper<WrapperPl
      */
     @ApiStatus.Obsolete
     public void setRecipe(ResourceLocation recipe) {
+        markDirty();
         this.recipe = recipe;
     }
 
@@ -99,6 +100,7 @@ public class WrapperPlayClientSetDisplayedRecipe extends PacketWrapper<WrapperPl
     }
 
     public void setRecipeId(RecipeDisplayId recipeId) {
+        markDirty();
         this.recipeId = recipeId;
     }
 }
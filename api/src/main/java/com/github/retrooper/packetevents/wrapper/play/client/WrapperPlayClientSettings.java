@@ -55,6 +55,7 @@ public class WrapperPlayClientSettings extends WrapperCommonClientSettings<Wrapp
 
     @Deprecated
     public void setVisibility(ChatVisibility visibility) {
+        markDirty();
         this.setChatVisibility(visibility.modern);
     }
 
@@ -65,6 +66,7 @@ public class WrapperPlayClientSettings extends WrapperCommonClientSettings<Wrapp
 
     @Deprecated
     public void setChatColorable(boolean chatColorable) {
+        markDirty();
         this.setChatColors(chatColorable);
     }
 
@@ -75,6 +77,7 @@ public class WrapperPlayClientSettings extends WrapperCommonClientSettings<Wrapp
 
     @Deprecated
     public void setVisibleSkinSectionMask(byte visibleSkinSectionMask) {
+        markDirty();
         this.setSkinMask(visibleSkinSectionMask);
     }
 
@@ -118,6 +118,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
     }
 
     public void setText(String text) {
+        markDirty();
         this.text = text;
     }
 
@@ -126,6 +127,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
     }
 
     public void setTransactionId(@Nullable Integer transactionID) {
+        markDirty();
         this.transactionId = Optional.ofNullable(transactionID);
     }
 
@@ -136,6 +138,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
 
     @Deprecated
     public void setAssumeCommand(boolean assumeCommand) {
+        markDirty();
         this.assumeCommand = assumeCommand;
     }
 
@@ -144,6 +147,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
     }
 
     public void setBlockPosition(@Nullable Vector3i blockPosition) {
+        markDirty();
         this.blockPosition = blockPosition;
     }
 }
@@ -104,6 +104,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
      * @param blockPosition Sign position
      */
     public void setBlockPosition(Vector3i blockPosition) {
+        markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -122,6 +123,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
      * @param textLines Sign content
      */
     public void setTextLines(String[] textLines) {
+        markDirty();
         this.textLines = textLines;
     }
 
@@ -130,6 +132,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
     }
 
     public void setFrontText(boolean frontText) {
+        markDirty();
         isFrontText = frontText;
     }
 }
@@ -83,6 +83,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setPosition(Vector3d position) {
+        markDirty();
         this.position = position;
     }
 
@@ -91,6 +92,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setYaw(float yaw) {
+        markDirty();
         this.yaw = yaw;
     }
 
@@ -99,6 +101,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setPitch(float pitch) {
+        markDirty();
         this.pitch = pitch;
     }
 
@@ -107,6 +110,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setOnGround(boolean onGround) {
+        markDirty();
         this.onGround = onGround;
     }
 }
@@ -71,6 +71,7 @@ public class WrapperPlayServerAcknowledgePlayerDigging extends PacketWrapper<Wra
     }
 
     public void setAction(DiggingAction action) {
+        markDirty();
         this.action = action;
     }
 
@@ -79,6 +80,7 @@ public class WrapperPlayServerAcknowledgePlayerDigging extends PacketWrapper<Wra
     }
 
     public void setSuccessful(boolean successful) {
+        markDirty();
         this.successful = successful;
     }
 
@@ -87,6 +89,7 @@ public class WrapperPlayServerAcknowledgePlayerDigging extends PacketWrapper<Wra
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -95,6 +98,7 @@ public class WrapperPlayServerAcknowledgePlayerDigging extends PacketWrapper<Wra
     }
 
     public void setBlockId(int blockID) {
+        markDirty();
         this.blockID = blockID;
     }
 }
@@ -77,6 +77,7 @@ public class WrapperPlayServerBlockChange extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -85,6 +86,7 @@ public class WrapperPlayServerBlockChange extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockID(int blockID) {
+        markDirty();
         this.blockID = blockID;
     }
 
@@ -93,6 +95,7 @@ public class WrapperPlayServerBlockChange extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockState(WrappedBlockState blockState) {
+        markDirty();
         this.blockID = blockState.getGlobalId();
     }
 }
@@ -89,6 +89,7 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
     }
 
     public void setPosition(Vector3i position) {
+        markDirty();
         this.position = position;
     }
 
@@ -108,15 +109,18 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
 
     @Deprecated
     public void setType(int type) {
+        markDirty();
         this.setType(BlockEntityTypes.getById(this.serverVersion.toClientVersion(), type));
     }
 
     public void setType(BlockEntityType blockEntityType) {
+        markDirty();
         this.type = blockEntityType;
     }
 
     @Deprecated
     public void setType(TileEntityType type) {
+        markDirty();
         this.setType(type.getId());
     }
 
@@ -125,6 +129,7 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
     }
 
     public void setNBT(NBTCompound nbt) {
+        markDirty();
         this.nbt = nbt;
     }
 
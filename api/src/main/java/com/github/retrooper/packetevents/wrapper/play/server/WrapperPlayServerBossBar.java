@@ -157,6 +157,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setUUID(UUID uuid) {
+        markDirty();
         this.uuid = uuid;
     }
     
@@ -165,6 +166,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setAction(Action action) {
+        markDirty();
         this.action = action;
     }
     
@@ -173,6 +175,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setTitle(Component title) {
+        markDirty();
         this.title = title;
     }
     
@@ -181,6 +184,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setHealth(float health) {
+        markDirty();
         this.health = health;
     }
     
@@ -189,6 +193,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setColor(BossBar.Color color) {
+        markDirty();
         this.color = color;
     }
     
@@ -197,6 +202,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setOverlay(BossBar.Overlay overlay) {
+        markDirty();
         this.overlay = overlay;
     }
     
@@ -205,6 +211,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setFlags(EnumSet<BossBar.Flag> flags) {
+        markDirty();
         this.flags = flags;
     }
     
@@ -65,6 +65,7 @@ public class WrapperPlayServerChangeGameState extends PacketWrapper<WrapperPlayS
     }
 
     public void setReason(Reason reason) {
+        markDirty();
         this.reason = reason;
     }
 
@@ -73,6 +74,7 @@ public class WrapperPlayServerChangeGameState extends PacketWrapper<WrapperPlayS
     }
 
     public void setValue(float value) {
+        markDirty();
         this.value = value;
     }
 
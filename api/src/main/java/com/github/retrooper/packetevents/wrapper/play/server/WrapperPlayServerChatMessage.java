@@ -73,6 +73,7 @@ public class WrapperPlayServerChatMessage extends PacketWrapper<WrapperPlayServe
     }
 
     public void setMessage(ChatMessage message) {
+        markDirty();
         this.message = message;
     }
 
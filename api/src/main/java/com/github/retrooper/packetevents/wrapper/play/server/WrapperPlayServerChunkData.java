@@ -18,14 +18,17 @@
 
 package com.github.retrooper.packetevents.wrapper.play.server;
 
+import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamOutput;
 import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
 import com.github.retrooper.packetevents.protocol.world.chunk.ChunkBitMask;
+import com.github.retrooper.packetevents.protocol.world.chunk.ChunkDataCache;
 import com.github.retrooper.packetevents.protocol.world.chunk.Column;
 import com.github.retrooper.packetevents.protocol.world.chunk.LightData;
 import com.github.retrooper.packetevents.protocol.world.chunk.NetworkChunkData;
@@ -42,6 +45,7 @@ import com.github.retrooper.packetevents.protocol.world.chunk.reader.impl.ChunkR
 import com.github.retrooper.packetevents.protocol.world.chunk.reader.impl.ChunkReader_v1_9;
 import com.github.retrooper.packetevents.protocol.world.dimension.DimensionTypes;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -62,9 +66,30 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
     // 1.18 only (lighting) - for writing data
     private LightData lightData;
     private boolean ignoreOldData;
+    private boolean lazySections;
+    // The payload as the server sent it, only kept while the chunk data cache is enabled and missed
+    private byte @Nullable [] payload;
+    private long payloadHash;
+    private int payloadIndex;
+    // The result of an earlier viewer receiving the same payload, the data is only copied from it once accessed
+    private ChunkDataCache.@Nullable Result cached;
+    private boolean cacheable = true;
+    private boolean accessed;
 
     public WrapperPlayServerChunkData(PacketSendEvent event) {
         super(event);
+        reEncodeIfModified(event);
+    }
+
+    /**
+     * @param lazySections Whether the palettes of 1.18+ chunk sections should only be decoded once they are accessed.
+     *                     Sections which are never accessed are written back without being decoded at all.
+     */
+    public WrapperPlayServerChunkData(PacketSendEvent event, boolean lazySections) {
+        super(event, false);
+        this.lazySections = lazySections;
+        readEvent(event);
+        reEncodeIfModified(event);
     }
 
     public WrapperPlayServerChunkData(Column column) {
@@ -84,6 +109,12 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
 
     @Override
     public void read() {
+        if (!readCached()) {
+            readData();
+        }
+    }
+
+    private void readData() {
         int chunkX = readInt();
         int chunkZ = readInt();
 
@@ -145,9 +176,6 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
             }
         }
 
-        byte[] data = readByteArray();
-        data = deflate(data, chunkMask, fullChunk);
-
         boolean hasBlocklight = (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_16) || serverVersion.isOlderThan(ServerVersion.V_1_14))
                 && !serverVersion.isOlderThanOrEquals(ServerVersion.V_1_8_8);
         boolean checkForSky = this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_16)
@@ -155,9 +183,25 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
                 || this.user != null && this.user.getDimensionType().equals(DimensionTypes.OVERWORLD)
                 && this.serverVersion.isOlderThan(ServerVersion.V_1_14);
 
-        // 1.7/1.8 don't use this NetStreamInput
-        NetStreamInput dataIn = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9) ? new NetStreamInput(new ByteArrayInputStream(data)) : null;
-        BaseChunk[] chunks = getChunkReader().read(this.user.getDimensionType(), chunkMask, secondaryChunkMask, fullChunk, hasBlocklight, checkForSky, chunkSize, data, dataIn);
+        byte[] data = null;
+        NetStreamInput dataIn = null;
+        BaseChunk[] chunks;
+        if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_18)) {
+            // The sections are read straight from the packet, without copying them into an array first
+            int dataLength = readVarInt();
+            int dataEnd = ByteBufHelper.readerIndex(buffer) + dataLength;
+            chunks = lazySections ? chunkReader_v1_18.readLazily(this, chunkSize) : chunkReader_v1_18.read(this, chunkSize);
+            if (ByteBufHelper.readerIndex(buffer) > dataEnd) {
+                throw new IllegalStateException("Chunk sections exceed their data length of " + dataLength + " bytes");
+            }
+            ByteBufHelper.readerIndex(buffer, dataEnd);
+        } else {
+            data = readByteArray();
+            data = deflate(data, chunkMask, fullChunk);
+            // 1.7/1.8 don't use this NetStreamInput
+            dataIn = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9) ? new NetStreamInput(new ByteArrayInputStream(data)) : null;
+            chunks = getChunkReader().read(this.user.getDimensionType(), chunkMask, secondaryChunkMask, fullChunk, hasBlocklight, checkForSky, chunkSize, data, dataIn);
+        }
 
         if (hasBiomeData && serverVersion.isOlderThan(ServerVersion.V_1_15)) {
             if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) { // Uses ints
@@ -221,6 +265,52 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
         }
     }
 
+    private boolean readCached() {
+        int cacheSize = PacketEvents.getAPI() != null ? PacketEvents.getAPI().getSettings().getChunkDataCacheSize() : 0;
+        if (cacheSize <= 0 || this.user == null) {
+            return false;
+        }
+        int index = ByteBufHelper.readerIndex(buffer);
+        int length = ByteBufHelper.readableBytes(buffer);
+        long hash = ChunkDataCache.hash(buffer, index, length);
+        this.payloadIndex = index;
+        ChunkDataCache.Result cached = ChunkDataCache.get(this.user.getDimensionType(), this.user.getClientVersion(),
+                buffer, index, length, hash);
+        if (cached != null) {
+            this.cached = cached;
+            ByteBufHelper.readerIndex(buffer, index + length);
+            return true;
+        }
+        // The result is only cached once the packet is written, after all listeners ran
+        byte[] payload = new byte[length];
+        ByteBufHelper.getBytes(buffer, index, payload);
+        this.payload = payload;
+        this.payloadHash = hash;
+        return false;
+    }
+
+    private void reEncodeIfModified(PacketSendEvent event) {
+        // Listeners modified the packet for earlier viewers, so the payload can't be sent as it is
+        if (this.cached != null && this.cached.isModified()) {
+            markDirty();
+            event.markForReEncode(true);
+        }
+    }
+
+    private void access() {
+        if (this.accessed) {
+            return;
+        }
+        this.accessed = true;
+        ChunkDataCache.Result cached = this.cached;
+        if (cached != null) {
+            // Continue with private copies, the cached result is shared with other viewers
+            this.column = cached.copyColumn();
+            this.lightData = cached.copyLightData();
+            this.ignoreOldData = cached.isIgnoreOldData();
+        }
+    }
+
     private byte[] deflate(byte[] toDeflate, BitSet mask, boolean fullChunk) {
         // The data is already decompressed! (step only needed for 1.7.x)
         if (serverVersion.isNewerThan(ServerVersion.V_1_7_10)) {
@@ -257,6 +347,27 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
 
     @Override
     public void write() {
+        if (cached != null && !accessed) {
+            writeBytes(cached.getEncoded());
+            return;
+        }
+
+        int start = ByteBufHelper.writerIndex(buffer);
+        writeData();
+        byte[] payload = this.payload;
+        if (payload != null && cacheable) {
+            // Only the first write is cached, the wrapper may be modified and written again afterwards
+            this.payload = null;
+            byte[] encoded = new byte[ByteBufHelper.writerIndex(buffer) - start];
+            ByteBufHelper.getBytes(buffer, start, encoded);
+            ChunkDataCache.Result result = new ChunkDataCache.Result(column.copy(), ChunkDataCache.copy(lightData),
+                    ignoreOldData, encoded, !Arrays.equals(encoded, payload));
+            ChunkDataCache.put(user.getDimensionType(), user.getClientVersion(), payload, payloadHash,
+                    result, PacketEvents.getAPI().getSettings().getChunkDataCacheSize());
+        }
+    }
+
+    private void writeData() {
         writeInt(column.getX());
         writeInt(column.getZ());
 
@@ -287,14 +398,14 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
         BitSet chunkMask = new BitSet();
         BaseChunk[] chunks = column.getChunks();
 
-        if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) {
-            for (int index = 0; index < chunks.length; index++) {
-                BaseChunk chunk = chunks[index];
-                if (v1_18) {
-                    Chunk_v1_18.write(dataOut, (Chunk_v1_18) chunk);
-                } else if (v1_9 && chunk != null) {
-                    chunkMask.set(index);
-                    Chunk_v1_9.write(dataOut, (Chunk_v1_9) chunk);
+        if (v1_9) {
+            if (!v1_18) {
+                for (int index = 0; index < chunks.length; index++) {
+                    BaseChunk chunk = chunks[index];
+                    if (chunk != null) {
+                        chunkMask.set(index);
+                        Chunk_v1_9.write(dataOut, (Chunk_v1_9) chunk);
+                    }
                 }
             }
         } else if (v1_8) {
@@ -368,8 +479,13 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
             hasWrittenBiomeData = true;
         }
 
-        byte[] data = dataBytes.toByteArray();
-        writeByteArray(data);
+        if (v1_18) {
+            // The sections are written straight into the buffer after the heightmaps
+            writeSections(chunks);
+        } else {
+            byte[] data = dataBytes.toByteArray();
+            writeByteArray(data);
+        }
 
         if (column.hasBiomeData() && !hasWrittenBiomeData) {
             byte[] biomeDataBytes = new byte[256];
@@ -402,35 +518,99 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
         }
     }
 
+    private void writeSections(BaseChunk[] chunks) {
+        int dataLength = 0;
+        for (BaseChunk chunk : chunks) {
+            dataLength += Chunk_v1_18.getSerializedSize((Chunk_v1_18) chunk);
+        }
+        writeVarInt(dataLength);
+        // Grow the buffer once instead of repeatedly while the sections are written
+        if (ByteBufHelper.writableBytes(buffer) < dataLength) {
+            ByteBufHelper.capacity(buffer, ByteBufHelper.writerIndex(buffer) + dataLength);
+        }
+        for (BaseChunk chunk : chunks) {
+            Chunk_v1_18.write(this, (Chunk_v1_18) chunk);
+        }
+    }
+
     @Override
     public void copy(WrapperPlayServerChunkData wrapper) {
         this.column = wrapper.column;
         this.lightData = wrapper.lightData != null
                 ? wrapper.lightData.clone() : null;
         this.ignoreOldData = wrapper.ignoreOldData;
+        this.payload = wrapper.payload;
+        this.payloadHash = wrapper.payloadHash;
+        this.payloadIndex = wrapper.payloadIndex;
+        this.cached = wrapper.cached;
+        this.cacheable = wrapper.cacheable;
+        this.accessed = wrapper.accessed;
+    }
+
+    /**
+     * @return Whether the data was taken from an earlier viewer receiving the same payload,
+     * as the listeners left it for that viewer, instead of being parsed from the payload
+     * @see com.github.retrooper.packetevents.protocol.world.chunk.ChunkDataCache
+     */
+    public boolean isCached() {
+        return cached != null;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    /**
+     * Listeners modifying chunk data for single viewers, such as hiding blocks from some of them,
+     * have to mark the data as not cacheable before accessing it.
+     * The data is then parsed from the payload, and neither taken from nor put into the chunk data cache.
+     *
+     * @param cacheable Whether the data may be shared with other viewers receiving the same payload
+     * @see com.github.retrooper.packetevents.protocol.world.chunk.ChunkDataCache
+     */
+    public void setCacheable(boolean cacheable) {
+        if (!cacheable && cached != null) {
+            if (accessed) {
+                throw new IllegalStateException("Chunk data has to be marked as not cacheable before it is accessed");
+            }
+            // The cached result belongs to other viewers, parse the payload after all
+            cached = null;
+            ByteBufHelper.readerIndex(buffer, payloadIndex);
+            readData();
+        }
+        this.cacheable = cacheable;
     }
 
     public Column getColumn() {
+        access();
         return column;
     }
 
     public void setColumn(Column column) {
+        access();
+        markDirty();
         this.column = column;
     }
 
     public LightData getLightData() {
+        access();
         return lightData;
     }
 
     public void setLightData(LightData lightData) {
+        access();
+        markDirty();
         this.lightData = lightData;
     }
 
     public boolean isIgnoreOldData() {
+        access();
         return ignoreOldData;
     }
 
     public void setIgnoreOldData(boolean ignoreOldData) {
+        access();
+        markDirty();
         this.ignoreOldData = ignoreOldData;
     }
 
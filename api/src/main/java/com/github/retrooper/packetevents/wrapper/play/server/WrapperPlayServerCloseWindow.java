@@ -65,6 +65,7 @@ public class WrapperPlayServerCloseWindow extends PacketWrapper<WrapperPlayServe
      * Note: Window ID is ignored by the client on all versions.
      */
     public void setWindowId(int windowId) {
+        markDirty();
         this.windowId = windowId;
     }
 }
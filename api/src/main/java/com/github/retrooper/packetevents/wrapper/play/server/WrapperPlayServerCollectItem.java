@@ -79,6 +79,7 @@ public class WrapperPlayServerCollectItem extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCollectedEntityId(int collectedEntityId) {
+        markDirty();
         this.collectedEntityId = collectedEntityId;
     }
 
@@ -87,6 +88,7 @@ public class WrapperPlayServerCollectItem extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCollectorEntityId(int collectorEntityId) {
+        markDirty();
         this.collectorEntityId = collectorEntityId;
     }
 
@@ -95,6 +97,7 @@ public class WrapperPlayServerCollectItem extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPickupItemCount(int pickupItemCount) {
+        markDirty();
         this.pickupItemCount = pickupItemCount;
     }
 }
@@ -115,6 +115,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
     }
 
     public void setWindowId(int windowId) {
+        markDirty();
         this.windowId = windowId;
     }
 
@@ -133,6 +134,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
      */
     @Deprecated
     public <T> void setRecipe(T recipe) {
+        markDirty();
         if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) {
             this.recipeKey = new ResourceLocation((String) recipe);
         } else {
@@ -145,6 +147,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
     }
 
     public void setRecipeKey(ResourceLocation recipeKey) {
+        markDirty();
         this.recipeKey = recipeKey;
     }
 
@@ -153,6 +156,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
     }
 
     public void setRecipeId(RecipeDisplayId recipeId) {
+        markDirty();
         this.recipeId = recipeId;
     }
 
@@ -161,6 +165,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
     }
 
     public void setRecipeDisplay(RecipeDisplay<?> recipeDisplay) {
+        markDirty();
         this.recipeDisplay = recipeDisplay;
     }
 }
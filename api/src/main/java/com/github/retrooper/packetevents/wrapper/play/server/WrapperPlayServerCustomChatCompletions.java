@@ -62,6 +62,7 @@ public class WrapperPlayServerCustomChatCompletions extends PacketWrapper<Wrappe
     }
 
     public void setAction(ChatCompletionAction action) {
+        markDirty();
         this.action = action;
     }
 
@@ -70,6 +71,7 @@ public class WrapperPlayServerCustomChatCompletions extends PacketWrapper<Wrappe
     }
 
     public void setEntries(List<String> entries) {
+        markDirty();
         this.entries = entries;
     }
 }
@@ -79,6 +79,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -87,6 +88,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourceType(DamageType sourceType) {
+        markDirty();
         this.sourceType = sourceType;
     }
 
@@ -95,6 +97,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourceCauseId(int sourceCauseId) {
+        markDirty();
         this.sourceCauseId = sourceCauseId;
     }
 
@@ -103,6 +106,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourceDirectId(int sourceDirectId) {
+        markDirty();
         this.sourceDirectId = sourceDirectId;
     }
 
@@ -111,6 +115,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourcePosition(@Nullable Vector3d sourcePosition) {
+        markDirty();
         this.sourcePosition = sourcePosition;
     }
 }
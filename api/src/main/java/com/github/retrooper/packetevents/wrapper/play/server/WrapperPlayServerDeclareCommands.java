@@ -57,6 +57,7 @@ public class WrapperPlayServerDeclareCommands extends PacketWrapper<WrapperPlayS
     }
 
     public void setNodes(List<Node> nodes) {
+        markDirty();
         this.nodes = nodes;
     }
 
@@ -65,6 +66,7 @@ public class WrapperPlayServerDeclareCommands extends PacketWrapper<WrapperPlayS
     }
 
     public void setRootIndex(int rootIndex) {
+        markDirty();
         this.rootIndex = rootIndex;
     }
 }
@@ -118,6 +118,7 @@ public class WrapperPlayServerDeclareRecipes extends PacketWrapper<WrapperPlaySe
      */
     @ApiStatus.Obsolete
     public void setRecipes(Recipe<?>[] recipes) {
+        markDirty();
         this.recipes = recipes;
     }
 
@@ -126,6 +127,7 @@ public class WrapperPlayServerDeclareRecipes extends PacketWrapper<WrapperPlaySe
     }
 
     public void setItemSets(Map<ResourceLocation, RecipePropertySet> itemSets) {
+        markDirty();
         this.itemSets = itemSets;
     }
 
@@ -134,6 +136,7 @@ public class WrapperPlayServerDeclareRecipes extends PacketWrapper<WrapperPlaySe
     }
 
     public void setStonecutterRecipes(List<SingleInputOptionDisplay> stonecutterRecipes) {
+        markDirty();
         this.stonecutterRecipes = stonecutterRecipes;
     }
 }
@@ -90,6 +90,7 @@ public class WrapperPlayServerDestroyEntities extends PacketWrapper<WrapperPlayS
     }
 
     public void setEntityIds(int[] entityIDs) {
+        markDirty();
         this.entityIDs = entityIDs;
     }
 }
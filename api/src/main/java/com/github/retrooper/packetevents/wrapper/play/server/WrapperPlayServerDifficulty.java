@@ -67,6 +67,7 @@ public class WrapperPlayServerDifficulty extends PacketWrapper<WrapperPlayServer
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        markDirty();
         this.difficulty = difficulty;
     }
 
@@ -75,6 +76,7 @@ public class WrapperPlayServerDifficulty extends PacketWrapper<WrapperPlayServer
     }
 
     public void setLocked(boolean locked) {
+        markDirty();
         this.locked = locked;
     }
 }
@@ -62,6 +62,7 @@ public class WrapperPlayServerDisguisedChat extends PacketWrapper<WrapperPlaySer
     }
 
     public void setMessage(Component message) {
+        markDirty();
         this.message = message;
     }
 
@@ -70,6 +71,7 @@ public class WrapperPlayServerDisguisedChat extends PacketWrapper<WrapperPlaySer
     }
 
     public void setChatFormatting(ChatType.Bound chatFormatting) {
+        markDirty();
         this.chatFormatting = chatFormatting;
     }
 
@@ -88,6 +90,7 @@ public class WrapperPlayServerDisguisedChat extends PacketWrapper<WrapperPlaySer
      */
     @Deprecated
     public void setChatType(ChatType.Bound chatFormatting) {
+        markDirty();
         this.chatFormatting = chatFormatting;
     }
 }
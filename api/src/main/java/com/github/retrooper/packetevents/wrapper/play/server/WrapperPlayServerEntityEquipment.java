@@ -106,6 +106,7 @@ public class WrapperPlayServerEntityEquipment extends PacketWrapper<WrapperPlayS
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -114,6 +115,7 @@ public class WrapperPlayServerEntityEquipment extends PacketWrapper<WrapperPlayS
     }
 
     public void setEquipment(List<Equipment> equipment) {
+        markDirty();
         this.equipment = equipment;
     }
 }
@@ -60,6 +60,7 @@ public class WrapperPlayServerEntityHeadLook extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayServerEntityHeadLook extends PacketWrapper<WrapperPlaySe
     }
 
     public void setHeadYaw(float headYaw) {
+        markDirty();
         this.headYaw = headYaw;
     }
 }
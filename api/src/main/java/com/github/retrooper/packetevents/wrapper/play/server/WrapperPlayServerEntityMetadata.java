@@ -73,6 +73,7 @@ public class WrapperPlayServerEntityMetadata extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -81,10 +82,12 @@ public class WrapperPlayServerEntityMetadata extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityMetadata(List<EntityData> entityMetadata) {
+        markDirty();
         this.entityMetadata = entityMetadata;
     }
 
     public void setEntityMetadata(EntityMetadataProvider metadata) {
+        markDirty();
         this.entityMetadata = metadata.entityData(serverVersion.toClientVersion());
     }
 }
@@ -66,6 +66,7 @@ public class WrapperPlayServerEntityPositionSync extends PacketWrapper<WrapperPl
     }
 
     public void setId(int id) {
+        markDirty();
         this.id = id;
     }
 
@@ -74,6 +75,7 @@ public class WrapperPlayServerEntityPositionSync extends PacketWrapper<WrapperPl
     }
 
     public void setValues(EntityPositionData values) {
+        markDirty();
         this.values = values;
     }
 
@@ -82,6 +84,7 @@ public class WrapperPlayServerEntityPositionSync extends PacketWrapper<WrapperPl
     }
 
     public void setOnGround(boolean onGround) {
+        markDirty();
         this.onGround = onGround;
     }
 }
@@ -115,6 +115,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setSound(Sound sound) {
+        markDirty();
         this.sound = sound;
     }
 
@@ -125,6 +126,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
 
     @Deprecated
     public void setSoundId(int soundId) {
+        markDirty();
         this.setSound(Sounds.getById(this.serverVersion.toClientVersion(), soundId));
     }
 
@@ -133,6 +135,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setSoundCategory(SoundCategory soundCategory) {
+        markDirty();
         this.soundCategory = soundCategory;
     }
 
@@ -141,6 +144,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -149,6 +153,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setVolume(float volume) {
+        markDirty();
         this.volume = volume;
     }
 
@@ -157,6 +162,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setPitch(float pitch) {
+        markDirty();
         this.pitch = pitch;
     }
 
@@ -165,6 +171,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setSeed(long seed) {
+        markDirty();
         this.seed = seed;
     }
 }
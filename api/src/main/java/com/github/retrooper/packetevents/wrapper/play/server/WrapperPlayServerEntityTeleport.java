@@ -137,6 +137,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -145,6 +146,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setValues(EntityPositionData values) {
+        markDirty();
         this.values = values;
     }
 
@@ -153,6 +155,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPosition(Vector3d position) {
+        markDirty();
         this.values.setPosition(position);
     }
 
@@ -161,6 +164,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setDeltaMovement(Vector3d deltaMovement) {
+        markDirty();
         this.values.setDeltaMovement(deltaMovement);
     }
 
@@ -169,6 +173,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setYaw(float yaw) {
+        markDirty();
         this.values.setYaw(yaw);
     }
 
@@ -177,6 +182,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPitch(float pitch) {
+        markDirty();
         this.values.setPitch(pitch);
     }
 
@@ -185,6 +191,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setRelativeFlags(RelativeFlag relativeFlags) {
+        markDirty();
         this.relativeFlags = relativeFlags;
     }
 
@@ -193,6 +200,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setOnGround(boolean onGround) {
+        markDirty();
         this.onGround = onGround;
     }
 }
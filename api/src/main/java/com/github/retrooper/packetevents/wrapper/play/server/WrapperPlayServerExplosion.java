@@ -239,6 +239,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setPosition(Vector3d position) {
+        markDirty();
         this.position = position;
     }
 
@@ -249,6 +250,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setStrength(float strength) {
+        markDirty();
         this.strength = strength;
     }
 
@@ -259,6 +261,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setRecords(List<Vector3i> records) {
+        markDirty();
         this.records = records;
     }
 
@@ -267,6 +270,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setKnockback(@Nullable Vector3d knockback) {
+        markDirty();
         this.knockback = knockback;
     }
 
@@ -281,6 +285,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @Deprecated
     public void setPlayerMotion(@Nullable Vector3f playerMotion) {
+        markDirty();
         this.knockback = playerMotion == null ? null : new Vector3d(
                 playerMotion.x, playerMotion.y, playerMotion.z);
     }
@@ -292,6 +297,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setSmallExplosionParticles(Particle<?> smallExplosionParticles) {
+        markDirty();
         this.smallParticle = smallExplosionParticles;
     }
 
@@ -300,6 +306,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setParticle(Particle<?> particle) {
+        markDirty();
         this.particle = particle;
     }
 
@@ -310,6 +317,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // renamed in 1.21.2
     public void setLargeExplosionParticles(Particle<?> largeExplosionParticles) {
+        markDirty();
         this.setParticle(largeExplosionParticles);
     }
 
@@ -320,6 +328,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setBlockInteraction(BlockInteraction blockInteraction) {
+        markDirty();
         this.blockInteraction = blockInteraction;
     }
 
@@ -328,6 +337,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setExplosionSoundKey(ResourceLocation explosionSoundKey) {
+        markDirty();
         this.explosionSound = new StaticSound(explosionSoundKey, this.explosionSound.getRange());
     }
 
@@ -336,6 +346,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setExplosionSoundRange(@Nullable Float explosionSoundRange) {
+        markDirty();
         this.explosionSound = new StaticSound(this.explosionSound.getSoundId(), explosionSoundRange);
     }
 
@@ -344,6 +355,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setExplosionSound(Sound explosionSound) {
+        markDirty();
         this.explosionSound = explosionSound;
     }
 
@@ -71,6 +71,7 @@ public class WrapperPlayServerFacePlayer extends PacketWrapper<WrapperPlayServer
     }
 
     public void setAimUnit(EntitySection aimUnit) {
+        markDirty();
         this.aimUnit = aimUnit;
     }
 
@@ -79,6 +80,7 @@ public class WrapperPlayServerFacePlayer extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTargetPosition(Vector3d targetPosition) {
+        markDirty();
         this.targetPosition = targetPosition;
     }
 
@@ -88,6 +90,7 @@ public class WrapperPlayServerFacePlayer extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTargetEntity(@Nullable TargetEntity targetEntity) {
+        markDirty();
         this.targetEntity = targetEntity;
     }
 
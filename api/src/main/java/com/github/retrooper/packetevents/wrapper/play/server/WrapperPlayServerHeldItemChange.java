@@ -60,6 +60,7 @@ public class WrapperPlayServerHeldItemChange extends PacketWrapper<WrapperPlaySe
     }
 
     public void setSlot(int slot) {
+        markDirty();
         this.slot = slot;
     }
 }
@@ -41,6 +41,7 @@ public class WrapperPlayServerHurtAnimation extends PacketWrapper<WrapperPlaySer
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -49,6 +50,7 @@ public class WrapperPlayServerHurtAnimation extends PacketWrapper<WrapperPlaySer
     }
 
     public void setYaw(float yaw) {
+        markDirty();
         this.yaw = yaw;
     }
 }
@@ -89,6 +89,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setX(double x) {
+        markDirty();
         this.x = x;
     }
 
@@ -97,6 +98,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setZ(double z) {
+        markDirty();
         this.z = z;
     }
 
@@ -105,6 +107,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setOldDiameter(double oldDiameter) {
+        markDirty();
         this.oldDiameter = oldDiameter;
     }
 
@@ -113,6 +116,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setNewDiameter(double newDiameter) {
+        markDirty();
         this.newDiameter = newDiameter;
     }
 
@@ -121,6 +125,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setSpeed(long speed) {
+        markDirty();
         this.speed = speed;
     }
 
@@ -129,6 +134,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setPortalTeleportBoundary(int portalTeleportBoundary) {
+        markDirty();
         this.portalTeleportBoundary = portalTeleportBoundary;
     }
 
@@ -137,6 +143,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setWarningBlocks(int warningBlocks) {
+        markDirty();
         this.warningBlocks = warningBlocks;
     }
 
@@ -145,6 +152,7 @@ public class WrapperPlayServerInitializeWorldBorder extends PacketWrapper<Wrappe
     }
 
     public void setWarningTime(int warningTime) {
+        markDirty();
         this.warningTime = warningTime;
     }
 }
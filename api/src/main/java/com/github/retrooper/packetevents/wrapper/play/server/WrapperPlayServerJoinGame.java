@@ -495,6 +495,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -503,6 +504,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setHardcore(boolean hardcore) {
+        markDirty();
         this.hardcore = hardcore;
     }
 
@@ -511,6 +513,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setGameMode(GameMode gameMode) {
+        markDirty();
         this.gameMode = gameMode;
     }
 
@@ -520,6 +523,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setPreviousGameMode(@Nullable GameMode previousGameMode) {
+        markDirty();
         this.previousGameMode = previousGameMode;
     }
 
@@ -528,6 +532,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setWorldNames(List<String> worldNames) {
+        markDirty();
         this.worldNames = worldNames;
     }
 
@@ -536,6 +541,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDimensionCodec(NBTCompound dimensionCodec) {
+        markDirty();
         this.dimensionCodec = dimensionCodec;
     }
 
@@ -544,6 +550,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDimensionTypeRef(DimensionTypeRef dimensionTypeRef) {
+        markDirty();
         this.dimensionTypeRef = dimensionTypeRef;
     }
 
@@ -553,6 +560,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDimensionType(DimensionType dimensionType) {
+        markDirty();
         this.dimensionTypeRef = dimensionType.asRef(this.serverVersion.toClientVersion());
     }
 
@@ -563,6 +571,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
 
     @Deprecated
     public void setDimension(Dimension dimension) {
+        markDirty();
         this.dimensionTypeRef = dimension.asDimensionTypeRef();
     }
 
@@ -571,6 +580,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        markDirty();
         this.difficulty = difficulty;
     }
 
@@ -579,6 +589,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setWorldName(String worldName) {
+        markDirty();
         this.worldName = worldName;
     }
 
@@ -587,6 +598,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setHashedSeed(long hashedSeed) {
+        markDirty();
         this.hashedSeed = hashedSeed;
     }
 
@@ -595,6 +607,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setMaxPlayers(int maxPlayers) {
+        markDirty();
         this.maxPlayers = maxPlayers;
     }
 
@@ -603,6 +616,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setViewDistance(int viewDistance) {
+        markDirty();
         this.viewDistance = viewDistance;
     }
 
@@ -611,6 +625,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setSimulationDistance(int simulationDistance) {
+        markDirty();
         this.simulationDistance = simulationDistance;
     }
 
@@ -619,6 +634,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setReducedDebugInfo(boolean reducedDebugInfo) {
+        markDirty();
         this.reducedDebugInfo = reducedDebugInfo;
     }
 
@@ -627,6 +643,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setRespawnScreenEnabled(boolean enableRespawnScreen) {
+        markDirty();
         this.enableRespawnScreen = enableRespawnScreen;
     }
 
@@ -635,6 +652,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setLimitedCrafting(boolean limitedCrafting) {
+        markDirty();
         this.limitedCrafting = limitedCrafting;
     }
 
@@ -643,6 +661,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDebug(boolean isDebug) {
+        markDirty();
         this.isDebug = isDebug;
     }
 
@@ -651,6 +670,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setFlat(boolean isFlat) {
+        markDirty();
         this.isFlat = isFlat;
     }
 
@@ -659,6 +679,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setLastDeathPosition(@Nullable WorldBlockPosition lastDeathPosition) {
+        markDirty();
         this.lastDeathPosition = lastDeathPosition;
     }
 
@@ -667,6 +688,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setPortalCooldown(int portalCooldown) {
+        markDirty();
         this.portalCooldown = portalCooldown;
     }
 
@@ -675,6 +697,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setSeaLevel(int seaLevel) {
+        markDirty();
         this.seaLevel = seaLevel;
     }
 
@@ -683,6 +706,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setEnforcesSecureChat(boolean enforcesSecureChat) {
+        markDirty();
         this.enforcesSecureChat = enforcesSecureChat;
     }
 }
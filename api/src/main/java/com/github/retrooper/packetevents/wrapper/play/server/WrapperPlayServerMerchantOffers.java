@@ -105,6 +105,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setContainerId(int containerId) {
+        markDirty();
         this.containerId = containerId;
     }
 
@@ -113,6 +114,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setMerchantOffers(List<MerchantOffer> merchantOffers) {
+        markDirty();
         this.merchantOffers = merchantOffers;
     }
 
@@ -121,6 +123,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setVillagerLevel(int villagerLevel) {
+        markDirty();
         this.villagerLevel = villagerLevel;
     }
 
@@ -129,6 +132,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setVillagerXp(int villagerXp) {
+        markDirty();
         this.villagerXp = villagerXp;
     }
 
@@ -137,6 +141,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setShowProgress(boolean showProgress) {
+        markDirty();
         this.showProgress = showProgress;
     }
 
@@ -145,6 +150,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setCanRestock(boolean canRestock) {
+        markDirty();
         this.canRestock = canRestock;
     }
 }
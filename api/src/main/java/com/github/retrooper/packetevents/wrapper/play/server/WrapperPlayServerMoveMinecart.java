@@ -64,6 +64,7 @@ public class WrapperPlayServerMoveMinecart extends PacketWrapper<WrapperPlayServ
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -72,6 +73,7 @@ public class WrapperPlayServerMoveMinecart extends PacketWrapper<WrapperPlayServ
     }
 
     public void setLerpSteps(List<MinecartStep> lerpSteps) {
+        markDirty();
         this.lerpSteps = lerpSteps;
     }
 
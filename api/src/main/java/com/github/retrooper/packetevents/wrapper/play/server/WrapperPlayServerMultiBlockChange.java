@@ -123,6 +123,7 @@ public class WrapperPlayServerMultiBlockChange extends PacketWrapper<WrapperPlay
     }
 
     public void setChunkPosition(Vector3i chunkPosition) {
+        markDirty();
         this.chunkPosition = chunkPosition;
     }
 
@@ -131,6 +132,7 @@ public class WrapperPlayServerMultiBlockChange extends PacketWrapper<WrapperPlay
     }
 
     public void setTrustEdges(Boolean trustEdges) {
+        markDirty();
         this.trustEdges = trustEdges;
     }
 
@@ -139,6 +141,7 @@ public class WrapperPlayServerMultiBlockChange extends PacketWrapper<WrapperPlay
     }
 
     public void setBlocks(EncodedBlock[] blocks) {
+        markDirty();
         this.blockData = blocks;
     }
 
@@ -60,6 +60,7 @@ public class WrapperPlayServerNBTQueryResponse extends PacketWrapper<WrapperPlay
     }
 
     public void setTransactionId(int transactionId) {
+        markDirty();
         this.transactionId = transactionId;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayServerNBTQueryResponse extends PacketWrapper<WrapperPlay
     }
 
     public void setTag(NBTCompound tag) {
+        markDirty();
         this.tag = tag;
     }
 }
@@ -162,6 +162,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setContainerId(int containerId) {
+        markDirty();
         this.containerId = containerId;
     }
 
@@ -170,6 +171,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setType(int type) {
+        markDirty();
         this.type = type;
     }
 
@@ -178,6 +180,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setLegacyType(String legacyType) {
+        markDirty();
         this.legacyType = legacyType;
     }
 
@@ -186,6 +189,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setLegacySlots(int legacySlots) {
+        markDirty();
         this.legacySlots = legacySlots;
     }
 
@@ -194,6 +198,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setHorseId(int horseId) {
+        markDirty();
         this.horseId = horseId;
     }
 
@@ -202,6 +207,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTitle(Component title) {
+        markDirty();
         this.title = title;
     }
 
@@ -210,6 +216,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setUseProvidedWindowTitle(boolean useProvidedWindowTitle) {
+        markDirty();
         this.useProvidedWindowTitle = useProvidedWindowTitle;
     }
 }
@@ -176,6 +176,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setParticle(Particle<?> particle) {
+        markDirty();
         this.particle = particle;
     }
 
@@ -184,6 +185,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setLongDistance(boolean longDistance) {
+        markDirty();
         this.longDistance = longDistance;
     }
 
@@ -192,6 +194,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setPosition(Vector3d position) {
+        markDirty();
         this.position = position;
     }
 
@@ -200,6 +203,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setOffset(Vector3f offset) {
+        markDirty();
         this.offset = offset;
     }
 
@@ -208,6 +212,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setMaxSpeed(float maxSpeed) {
+        markDirty();
         this.maxSpeed = maxSpeed;
     }
 
@@ -216,6 +221,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setParticleCount(int particleCount) {
+        markDirty();
         this.particleCount = particleCount;
     }
 
@@ -230,6 +236,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
      * Added with 1.21.4
      */
     public void setAlwaysShow(boolean alwaysShow) {
+        markDirty();
         this.alwaysShow = alwaysShow;
     }
 }
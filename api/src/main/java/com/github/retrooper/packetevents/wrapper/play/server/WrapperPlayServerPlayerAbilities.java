@@ -93,6 +93,7 @@ public class WrapperPlayServerPlayerAbilities extends PacketWrapper<WrapperPlayS
     }
 
     public void setInGodMode(boolean godMode) {
+        markDirty();
         this.godMode = godMode;
     }
 
@@ -101,6 +102,7 @@ public class WrapperPlayServerPlayerAbilities extends PacketWrapper<WrapperPlayS
     }
 
     public void setFlying(boolean flying) {
+        markDirty();
         this.flying = flying;
     }
 
@@ -109,6 +111,7 @@ public class WrapperPlayServerPlayerAbilities extends PacketWrapper<WrapperPlayS
     }
 
     public void setFlightAllowed(boolean flightAllowed) {
+        markDirty();
         this.flightAllowed = flightAllowed;
     }
 
@@ -117,6 +120,7 @@ public class WrapperPlayServerPlayerAbilities extends PacketWrapper<WrapperPlayS
     }
 
     public void setInCreativeMode(boolean creativeMode) {
+        markDirty();
         this.creativeMode = creativeMode;
     }
 
@@ -125,6 +129,7 @@ public class WrapperPlayServerPlayerAbilities extends PacketWrapper<WrapperPlayS
     }
 
     public void setFlySpeed(float flySpeed) {
+        markDirty();
         this.flySpeed = flySpeed;
     }
 
@@ -133,6 +138,7 @@ public class WrapperPlayServerPlayerAbilities extends PacketWrapper<WrapperPlayS
     }
 
     public void setFOVModifier(float fovModifier) {
+        markDirty();
         this.fovModifier = fovModifier;
     }
 }
@@ -215,6 +215,7 @@ public class WrapperPlayServerPlayerInfo extends PacketWrapper<WrapperPlayServer
     }
 
     public void setAction(@NotNull Action action) {
+        markDirty();
         this.action = action;
     }
 
@@ -223,6 +224,7 @@ public class WrapperPlayServerPlayerInfo extends PacketWrapper<WrapperPlayServer
     }
 
     public void setPlayerDataList(List<PlayerData> playerDataList) {
+        markDirty();
         this.playerDataList = playerDataList;
     }
 
@@ -65,6 +65,7 @@ public class WrapperPlayServerPlayerInfoRemove extends PacketWrapper<WrapperPlay
     }
 
     public void setProfileIds(List<UUID> profileIds) {
+        markDirty();
         this.profileIds = profileIds;
     }
 }
@@ -344,6 +344,7 @@ public class WrapperPlayServerPlayerInfoUpdate extends PacketWrapper<WrapperPlay
     }
 
     public void setActions(EnumSet<Action> actions) {
+        markDirty();
         this.actions = actions;
     }
 
@@ -352,6 +353,7 @@ public class WrapperPlayServerPlayerInfoUpdate extends PacketWrapper<WrapperPlay
     }
 
     public void setEntries(List<PlayerInfo> entries) {
+        markDirty();
         this.entries = entries;
     }
 }
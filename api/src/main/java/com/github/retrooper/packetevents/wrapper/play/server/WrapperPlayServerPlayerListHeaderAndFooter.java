@@ -70,6 +70,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
     }
 
     public void setHeader(Component header) {
+        markDirty();
         this.header = header;
     }
 
@@ -78,6 +79,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
     }
 
     public void setFooter(Component footer) {
+        markDirty();
         this.footer = footer;
     }
 
@@ -88,6 +90,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setHeaderJson(String headerJson) {
+        markDirty();
         this.setHeader(AdventureSerializer.parseComponent(headerJson));
     }
 
@@ -98,6 +101,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setFooterJson(String footerJson) {
+        markDirty();
         this.setFooter(AdventureSerializer.parseComponent(footerJson));
     }
 
@@ -108,6 +112,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setHeaderComponent(Component headerComponent) {
+        markDirty();
         this.setHeader(headerComponent);
     }
 
@@ -118,6 +123,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setFooterComponent(Component footerComponent) {
+        markDirty();
         this.setFooter(footerComponent);
     }
 }
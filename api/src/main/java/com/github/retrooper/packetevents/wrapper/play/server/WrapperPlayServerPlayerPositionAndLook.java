@@ -136,6 +136,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setTeleportId(int teleportId) {
+        markDirty();
         this.teleportId = teleportId;
     }
 
@@ -144,6 +145,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setValues(EntityPositionData values) {
+        markDirty();
         this.values = values;
     }
 
@@ -152,6 +154,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setPosition(Vector3d position) {
+        markDirty();
         this.values.setPosition(position);
     }
 
@@ -160,6 +163,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setX(double x) {
+        markDirty();
         this.setPosition(new Vector3d(x, this.getY(), this.getZ()));
     }
 
@@ -168,6 +172,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setY(double y) {
+        markDirty();
         this.setPosition(new Vector3d(this.getX(), y, this.getZ()));
     }
 
@@ -176,6 +181,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setZ(double z) {
+        markDirty();
         this.setPosition(new Vector3d(this.getX(), this.getY(), z));
     }
 
@@ -184,6 +190,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setDeltaMovement(Vector3d deltaMovement) {
+        markDirty();
         this.values.setDeltaMovement(deltaMovement);
     }
 
@@ -192,6 +199,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setYaw(float yaw) {
+        markDirty();
         this.values.setYaw(yaw);
     }
 
@@ -200,6 +208,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setPitch(float pitch) {
+        markDirty();
         this.values.setPitch(pitch);
     }
 
@@ -216,6 +225,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
      */
     @Deprecated
     public void setRelativeMask(byte relativeMask) {
+        markDirty();
         this.relativeFlags = new RelativeFlag(relativeMask);
     }
 
@@ -224,6 +234,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setRelative(RelativeFlag flag, boolean relative) {
+        markDirty();
         this.relativeFlags = this.relativeFlags.set(flag, relative);
     }
 
@@ -232,6 +243,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setRelativeFlags(RelativeFlag flags) {
+        markDirty();
         this.relativeFlags = flags;
     }
 
@@ -248,6 +260,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
      */
     @ApiStatus.Obsolete
     public void setDismountVehicle(boolean dismountVehicle) {
+        markDirty();
         this.dismountVehicle = dismountVehicle;
     }
 }
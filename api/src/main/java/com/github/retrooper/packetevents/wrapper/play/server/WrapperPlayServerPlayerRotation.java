@@ -60,6 +60,7 @@ public class WrapperPlayServerPlayerRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setYaw(float yaw) {
+        markDirty();
         this.yaw = yaw;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayServerPlayerRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPitch(float pitch) {
+        markDirty();
         this.pitch = pitch;
     }
 }
@@ -63,6 +63,7 @@ public class WrapperPlayServerRecipeBookAdd extends PacketWrapper<WrapperPlaySer
     }
 
     public void setEntries(List<AddEntry> entries) {
+        markDirty();
         this.entries = entries;
     }
 
@@ -71,6 +72,7 @@ public class WrapperPlayServerRecipeBookAdd extends PacketWrapper<WrapperPlaySer
     }
 
     public void setReplace(boolean replace) {
+        markDirty();
         this.replace = replace;
     }
 
@@ -58,6 +58,7 @@ public class WrapperPlayServerRecipeBookRemove extends PacketWrapper<WrapperPlay
     }
 
     public void setRecipeIds(List<RecipeDisplayId> recipeIds) {
+        markDirty();
         this.recipeIds = recipeIds;
     }
 }
@@ -56,6 +56,7 @@ public class WrapperPlayServerRecipeBookSettings extends PacketWrapper<WrapperPl
     }
 
     public void setSettings(RecipeBookSettings settings) {
+        markDirty();
         this.settings = settings;
     }
 }
@@ -72,6 +72,7 @@ public class WrapperPlayServerRemoveEntityEffect extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -80,6 +81,7 @@ public class WrapperPlayServerRemoveEntityEffect extends PacketWrapper<WrapperPl
     }
 
     public void setPotionType(PotionType potionType) {
+        markDirty();
         this.potionType = potionType;
     }
 }
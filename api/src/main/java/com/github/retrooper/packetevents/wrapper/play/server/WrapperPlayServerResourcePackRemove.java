@@ -58,6 +58,7 @@ public class WrapperPlayServerResourcePackRemove extends PacketWrapper<WrapperPl
     }
 
     public void setPackId(@Nullable UUID packId) {
+        markDirty();
         this.packId = packId;
     }
 }
@@ -107,6 +107,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setPackId(UUID packId) {
+        markDirty();
         this.packId = packId;
     }
 
@@ -115,6 +116,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setUrl(String url) {
+        markDirty();
         this.url = url;
     }
 
@@ -123,6 +125,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setHash(String hash) {
+        markDirty();
         this.hash = hash;
     }
 
@@ -131,6 +134,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setRequired(boolean required) {
+        markDirty();
         this.required = required;
     }
 
@@ -139,6 +143,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setPrompt(Component prompt) {
+        markDirty();
         this.prompt = prompt;
     }
 }
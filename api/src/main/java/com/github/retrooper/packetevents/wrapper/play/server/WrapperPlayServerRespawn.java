@@ -294,6 +294,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setDimensionTypeRef(DimensionTypeRef dimensionTypeRef) {
+        markDirty();
         this.dimensionTypeRef = dimensionTypeRef;
     }
 
@@ -303,6 +304,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setDimensionType(DimensionType dimensionType) {
+        markDirty();
         this.dimensionTypeRef = dimensionType.asRef(this.serverVersion.toClientVersion());
     }
 
@@ -313,6 +315,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
 
     @Deprecated
     public void setDimension(Dimension dimension) {
+        markDirty();
         this.dimensionTypeRef = dimension.asDimensionTypeRef();
     }
 
@@ -321,6 +324,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setWorldName(@Nullable String worldName) {
+        markDirty();
         this.worldName = Optional.ofNullable(worldName);
     }
 
@@ -329,6 +333,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        markDirty();
         this.difficulty = difficulty;
     }
 
@@ -337,6 +342,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setHashedSeed(long hashedSeed) {
+        markDirty();
         this.hashedSeed = hashedSeed;
     }
 
@@ -345,6 +351,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setGameMode(GameMode gameMode) {
+        markDirty();
         this.gameMode = gameMode;
     }
 
@@ -354,6 +361,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setPreviousGameMode(@Nullable GameMode previousGameMode) {
+        markDirty();
         this.previousGameMode = previousGameMode;
     }
 
@@ -362,6 +370,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setWorldDebug(boolean worldDebug) {
+        markDirty();
         this.worldDebug = worldDebug;
     }
 
@@ -370,6 +379,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setWorldFlat(boolean worldFlat) {
+        markDirty();
         this.worldFlat = worldFlat;
     }
 
@@ -378,6 +388,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setKeepingAllPlayerData(boolean keepAllPlayerData) {
+        markDirty();
         this.keptData = keepAllPlayerData ? KEEP_ALL_DATA : KEEP_ENTITY_DATA;
     }
 
@@ -386,6 +397,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setKeptData(byte keptData) {
+        markDirty();
         this.keptData = keptData;
     }
 
@@ -394,6 +406,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setLastDeathPosition(@Nullable WorldBlockPosition lastDeathPosition) {
+        markDirty();
         this.lastDeathPosition = lastDeathPosition;
     }
 
@@ -402,6 +415,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setPortalCooldown(int portalCooldown) {
+        markDirty();
         this.portalCooldown = portalCooldown;
     }
 }
@@ -56,6 +56,7 @@ public class WrapperPlayServerSetCursorItem extends PacketWrapper<WrapperPlaySer
     }
 
     public void setStack(ItemStack stack) {
+        markDirty();
         this.stack = stack;
     }
 }
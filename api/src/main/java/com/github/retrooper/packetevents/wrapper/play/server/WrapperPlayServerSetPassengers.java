@@ -59,6 +59,7 @@ public class WrapperPlayServerSetPassengers extends PacketWrapper<WrapperPlaySer
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -67,6 +68,7 @@ public class WrapperPlayServerSetPassengers extends PacketWrapper<WrapperPlaySer
     }
 
     public void setPassengers(int[] passengers) {
+        markDirty();
         this.passengers = passengers;
     }
 }
@@ -61,6 +61,7 @@ public class WrapperPlayServerSetPlayerInventory extends PacketWrapper<WrapperPl
     }
 
     public void setSlot(int slot) {
+        markDirty();
         this.slot = slot;
     }
 
@@ -69,6 +70,7 @@ public class WrapperPlayServerSetPlayerInventory extends PacketWrapper<WrapperPl
     }
 
     public void setStack(ItemStack stack) {
+        markDirty();
         this.stack = stack;
     }
 }
@@ -75,6 +75,7 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setWindowId(int windowID) {
+        markDirty();
         this.windowID = windowID;
     }
 
@@ -83,6 +84,7 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setStateId(int stateID) {
+        markDirty();
         this.stateID = stateID;
     }
 
@@ -91,6 +93,7 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setSlot(int slot) {
+        markDirty();
         this.slot = slot;
     }
 
@@ -99,6 +102,7 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setItem(ItemStack item) {
+        markDirty();
         this.item = item;
     }
 }
@@ -64,6 +64,7 @@ public class WrapperPlayServerSetTitleSubtitle extends PacketWrapper<WrapperPlay
     }
 
     public void setSubtitle(Component subtitle) {
+        markDirty();
         this.subtitle = subtitle;
     }
 
@@ -74,6 +75,7 @@ public class WrapperPlayServerSetTitleSubtitle extends PacketWrapper<WrapperPlay
 
     @Deprecated
     public void setSubtitleJson(String subtitleJson) {
+        markDirty();
         this.setSubtitle(AdventureSerializer.parseComponent(subtitleJson));
     }
 }
@@ -168,6 +168,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -176,6 +177,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setEntityUUID(UUID entityUUID) {
+        markDirty();
         this.entityUUID = entityUUID;
     }
 
@@ -184,6 +186,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setEntityType(EntityType entityType) {
+        markDirty();
         this.entityType = entityType;
     }
 
@@ -192,6 +195,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setPosition(Vector3d position) {
+        markDirty();
         this.position = position;
     }
 
@@ -200,6 +204,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setYaw(float yaw) {
+        markDirty();
         this.yaw = yaw;
     }
 
@@ -208,6 +213,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setPitch(float pitch) {
+        markDirty();
         this.pitch = pitch;
     }
 
@@ -216,6 +222,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setHeadPitch(float headPitch) {
+        markDirty();
         this.headPitch = headPitch;
     }
 
@@ -224,6 +231,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setVelocity(Vector3d velocity) {
+        markDirty();
         this.velocity = velocity;
     }
 
@@ -232,10 +240,12 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setEntityMetadata(List<EntityData> entityMetadata) {
+        markDirty();
         this.entityMetadata = entityMetadata;
     }
 
     public void setEntityMetadata(EntityMetadataProvider metadata) {
+        markDirty();
         this.entityMetadata = metadata.entityData(serverVersion.toClientVersion());
     }
 }
@@ -127,6 +127,7 @@ public class WrapperPlayServerSpawnPainting extends PacketWrapper<WrapperPlaySer
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -135,6 +136,7 @@ public class WrapperPlayServerSpawnPainting extends PacketWrapper<WrapperPlaySer
     }
 
     public void setUUID(UUID uuid) {
+        markDirty();
         this.uuid = uuid;
     }
 
@@ -143,6 +145,7 @@ public class WrapperPlayServerSpawnPainting extends PacketWrapper<WrapperPlaySer
     }
 
     public void setType(@Nullable PaintingType type) {
+        markDirty();
         this.type = type;
     }
 
@@ -151,6 +154,7 @@ public class WrapperPlayServerSpawnPainting extends PacketWrapper<WrapperPlaySer
     }
 
     public void setPosition(Vector3i position) {
+        markDirty();
         this.position = position;
     }
 
@@ -159,6 +163,7 @@ public class WrapperPlayServerSpawnPainting extends PacketWrapper<WrapperPlaySer
     }
 
     public void setDirection(Direction direction) {
+        markDirty();
         this.direction = direction;
     }
 }
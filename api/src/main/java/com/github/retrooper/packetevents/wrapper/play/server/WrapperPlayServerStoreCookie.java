@@ -63,6 +63,7 @@ public class WrapperPlayServerStoreCookie extends PacketWrapper<WrapperPlayServe
     }
 
     public void setKey(ResourceLocation key) {
+        markDirty();
         this.key = key;
     }
 
@@ -71,6 +72,7 @@ public class WrapperPlayServerStoreCookie extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPayload(byte[] payload) {
+        markDirty();
         this.payload = payload;
     }
 }
@@ -118,6 +118,7 @@ public class WrapperPlayServerTabComplete extends PacketWrapper<WrapperPlayServe
     }
 
     public void setTransactionId(@Nullable Integer transactionID) {
+        markDirty();
         this.transactionID = Optional.ofNullable(transactionID);
     }
 
@@ -126,6 +127,7 @@ public class WrapperPlayServerTabComplete extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCommandRange(@Nullable CommandRange commandRange) {
+        markDirty();
         this.commandRange = Optional.ofNullable(commandRange);
     }
 
@@ -134,6 +136,7 @@ public class WrapperPlayServerTabComplete extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCommandMatches(List<CommandMatch> commandMatches) {
+        markDirty();
         this.commandMatches = commandMatches;
     }
 
@@ -81,6 +81,7 @@ public class WrapperPlayServerTags extends PacketWrapper<WrapperPlayServerTags>
     }
 
     public void setTagMap(Map<ResourceLocation, List<Tag>> tags) {
+        markDirty();
         this.tags = tags;
     }
 
@@ -98,6 +99,7 @@ public class WrapperPlayServerTags extends PacketWrapper<WrapperPlayServerTags>
 
     @Deprecated
     public void setTags(HashMap<String, List<Tag>> tags) {
+        markDirty();
         if (tags == null) {
             this.tags = null;
         } else {
@@ -273,6 +273,7 @@ public class WrapperPlayServerTeams extends PacketWrapper<WrapperPlayServerTeams
 
 
     public void setTeamName(String teamName) {
+        markDirty();
         this.teamName = teamName;
     }
 
@@ -281,6 +282,7 @@ public class WrapperPlayServerTeams extends PacketWrapper<WrapperPlayServerTeams
     }
 
     public void setTeamMode(TeamMode teamMode) {
+        markDirty();
         this.teamMode = teamMode;
     }
 
@@ -289,6 +291,7 @@ public class WrapperPlayServerTeams extends PacketWrapper<WrapperPlayServerTeams
     }
 
     public void setPlayers(Collection<String> players) {
+        markDirty();
         this.players = players;
     }
 
@@ -297,6 +300,7 @@ public class WrapperPlayServerTeams extends PacketWrapper<WrapperPlayServerTeams
     }
 
     public void setTeamInfo(@Nullable ScoreBoardTeamInfo teamInfo) {
+        markDirty();
         this.teamInfo = Optional.ofNullable(teamInfo);
     }
 
@@ -72,6 +72,7 @@ public class WrapperPlayServerTimeUpdate extends PacketWrapper<WrapperPlayServer
     }
 
     public void setWorldAge(long worldAge) {
+        markDirty();
         this.worldAge = worldAge;
     }
 
@@ -80,6 +81,7 @@ public class WrapperPlayServerTimeUpdate extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTimeOfDay(long timeOfDay) {
+        markDirty();
         this.timeOfDay = timeOfDay;
     }
 
@@ -88,6 +90,7 @@ public class WrapperPlayServerTimeUpdate extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTickTime(boolean tickTime) {
+        markDirty();
         this.tickTime = tickTime;
     }
 }
@@ -69,6 +69,7 @@ public class WrapperPlayServerUnloadChunk extends PacketWrapper<WrapperPlayServe
     }
 
     public void setChunkX(int chunkX) {
+        markDirty();
         this.chunkX = chunkX;
     }
 
@@ -77,6 +78,7 @@ public class WrapperPlayServerUnloadChunk extends PacketWrapper<WrapperPlayServe
     }
 
     public void setChunkZ(int chunkZ) {
+        markDirty();
         this.chunkZ = chunkZ;
     }
 }
@@ -190,6 +190,7 @@ public class WrapperPlayServerUpdateAttributes extends PacketWrapper<WrapperPlay
     }
 
     public void setEntityId(int entityID) {
+        markDirty();
         this.entityID = entityID;
     }
 
@@ -198,6 +199,7 @@ public class WrapperPlayServerUpdateAttributes extends PacketWrapper<WrapperPlay
     }
 
     public void setProperties(List<Property> properties) {
+        markDirty();
         this.properties = properties;
     }
 
@@ -57,6 +57,7 @@ public class WrapperPlayServerUpdateEnabledFeatures extends PacketWrapper<Wrappe
     }
 
     public void setFeatures(Set<ResourceLocation> features) {
+        markDirty();
         this.features = features;
     }
 }
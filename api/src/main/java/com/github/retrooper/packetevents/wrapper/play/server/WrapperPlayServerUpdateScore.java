@@ -152,6 +152,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityName(String entityName) {
+        markDirty();
         this.entityName = entityName;
     }
 
@@ -160,6 +161,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setAction(Action action) {
+        markDirty();
         this.action = action;
     }
 
@@ -168,6 +170,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setObjectiveName(String objectiveName) {
+        markDirty();
         this.objectiveName = objectiveName;
     }
 
@@ -182,6 +185,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
      * Always present for >=1.20.3
      */
     public void setValue(Optional<Integer> value) {
+        markDirty();
         this.value = value;
     }
 
@@ -190,6 +194,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityDisplayName(@Nullable Component entityDisplayName) {
+        markDirty();
         this.entityDisplayName = entityDisplayName;
     }
 
@@ -198,6 +203,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setScoreFormat(@Nullable ScoreFormat scoreFormat) {
+        markDirty();
         this.scoreFormat = scoreFormat;
     }
 
@@ -83,6 +83,7 @@ public class WrapperPlayServerUseBed extends PacketWrapper<WrapperPlayServerUseB
     }
 
     public void setEntityId(int entityId) {
+        markDirty();
         this.entityId = entityId;
     }
 
@@ -91,6 +92,7 @@ public class WrapperPlayServerUseBed extends PacketWrapper<WrapperPlayServerUseB
     }
 
     public void setPosition(Vector3i position) {
+        markDirty();
         this.position = position;
     }
 }
@@ -87,6 +87,7 @@ public class WrapperPlayServerWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setWindowId(int windowID) {
+        markDirty();
         this.windowId = windowID;
     }
 
@@ -95,6 +96,7 @@ public class WrapperPlayServerWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setActionId(short actionID) {
+        markDirty();
         this.actionId = actionID;
     }
 
@@ -103,6 +105,7 @@ public class WrapperPlayServerWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setAccepted(boolean accepted) {
+        markDirty();
         this.accepted = accepted;
     }
 }
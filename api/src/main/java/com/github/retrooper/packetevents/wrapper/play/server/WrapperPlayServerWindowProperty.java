@@ -69,6 +69,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
     }
 
     public void setContainerId(int windowId) {
+        markDirty();
         this.windowId = windowId;
     }
 
@@ -79,6 +80,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
 
     @Deprecated
     public void setWindowId(byte windowId) {
+        markDirty();
         this.setContainerId(windowId);
     }
 
@@ -87,6 +89,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
     }
 
     public void setId(int id) {
+        markDirty();
         this.id = id;
     }
 
@@ -95,6 +98,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
     }
 
     public void setValue(int value) {
+        markDirty();
         this.value = value;
     }
 }
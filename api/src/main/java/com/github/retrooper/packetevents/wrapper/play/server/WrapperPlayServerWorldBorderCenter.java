@@ -63,10 +63,12 @@ public class WrapperPlayServerWorldBorderCenter extends PacketWrapper<WrapperPla
     }
 
     public void setX(double x) {
+        markDirty();
         this.x = x;
     }
 
     public void setZ(double z) {
+        markDirty();
         this.z = z;
     }
 }
@@ -60,6 +60,7 @@ public class WrapperStatusServerResponse extends PacketWrapper<WrapperStatusServ
     }
 
     public void setComponent(JsonObject component) {
+        markDirty();
         this.componentJson = AdventureSerializer.getGsonSerializer().serializer().toJson(component);
     }
 
@@ -68,6 +69,7 @@ public class WrapperStatusServerResponse extends PacketWrapper<WrapperStatusServ
     }
 
     public void setComponentJson(String componentJson) {
+        markDirty();
         this.componentJson = componentJson;
     }
 }
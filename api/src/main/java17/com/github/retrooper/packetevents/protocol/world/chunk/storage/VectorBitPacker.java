@@ -0,0 +1,148 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.world.chunk.storage;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Extracts the values of a long in parallel, one value per lane, by shifting copies of it by different amounts.
+ * Only loaded through {@link BitPacker#vector()}, which falls back to the scalar implementation
+ * if the incubator module is missing or {@link #isSupported()} is false.
+ */
+final class VectorBitPacker extends BitPacker {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    // As many int lanes as long lanes, to convert between them without splitting vectors
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class,
+            VectorShape.forBitSize(Math.max(64, LONGS.vectorBitSize() / 2)));
+    // The shift of every lane, per bits per entry and per block of lanes within a long
+    private static final LongVector[][] SHIFTS = new LongVector[33][];
+    // All bits set for the lanes of a block which hold a value of the long, per bits per entry and block
+    private static final LongVector[][] VALID = new LongVector[33][];
+
+    static {
+        int lanes = LONGS.length();
+        for (int bitsPerEntry = 1; bitsPerEntry <= 32; bitsPerEntry++) {
+            int valuesPerLong = 64 / bitsPerEntry;
+            int blocks = (valuesPerLong + lanes - 1) / lanes;
+            SHIFTS[bitsPerEntry] = new LongVector[blocks];
+            VALID[bitsPerEntry] = new LongVector[blocks];
+            long[] shifts = new long[lanes];
+            long[] valid = new long[lanes];
+            for (int block = 0; block < blocks; block++) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    int value = block * lanes + lane;
+                    shifts[lane] = value < valuesPerLong ? (long) value * bitsPerEntry : 0L;
+                    valid[lane] = value < valuesPerLong ? -1L : 0L;
+                }
+                SHIFTS[bitsPerEntry][block] = LongVector.fromArray(LONGS, shifts, 0);
+                VALID[bitsPerEntry][block] = LongVector.fromArray(LONGS, valid, 0);
+            }
+        }
+    }
+
+    /**
+     * @return Whether the vector registers are wide enough for this to be faster than the scalar loops
+     */
+    static boolean isSupported() {
+        // Converting between ints and longs is slower than the scalar loops with less than four lanes
+        return LONGS.length() >= 4;
+    }
+
+    @Override
+    public void unpack(long[] data, int bitsPerEntry, int size, int[] values) {
+        int lanes = LONGS.length();
+        int valuesPerLong = 64 / bitsPerEntry;
+        LongVector[] shifts = SHIFTS[bitsPerEntry];
+        // Every block stores all of its lanes, the surplus lanes are overwritten by the values of the next long.
+        // Only longs whose last block still fits into the values are unpacked like this, the rest is done scalar.
+        int vectorEnd = size - shifts.length * lanes;
+        LongVector mask = LongVector.broadcast(LONGS, (1L << bitsPerEntry) - 1L);
+        int cellIndex = 0;
+        int index = 0;
+        for (; index <= vectorEnd; cellIndex++, index += valuesPerLong) {
+            LongVector cell = LongVector.broadcast(LONGS, data[cellIndex]);
+            for (int block = 0; block < shifts.length; block++) {
+                ((IntVector) cell.lanewise(VectorOperators.LSHR, shifts[block]).and(mask)
+                        .convertShape(VectorOperators.L2I, INTS, 0))
+                        .intoArray(values, index + block * lanes);
+            }
+        }
+        long maxValue = (1L << bitsPerEntry) - 1L;
+        for (; cellIndex < data.length; cellIndex++) {
+            long cell = data[cellIndex];
+            for (int i = 0; i < valuesPerLong && index < size; i++, index++) {
+                values[index] = (int) (cell & maxValue);
+                cell >>>= bitsPerEntry;
+            }
+        }
+    }
+
+    @Override
+    public void pack(int[] values, int bitsPerEntry, int size, long[] data) {
+        int lanes = LONGS.length();
+        int valuesPerLong = 64 / bitsPerEntry;
+        long maxValue = (1L << bitsPerEntry) - 1L;
+        LongVector[] shifts = SHIFTS[bitsPerEntry];
+        LongVector[] valid = VALID[bitsPerEntry];
+        // Every block loads all of its lanes, the lanes holding values of the next long are cleared
+        int vectorEnd = size - shifts.length * lanes;
+        int cellIndex = 0;
+        int index = 0;
+        for (; index <= vectorEnd; cellIndex++, index += valuesPerLong) {
+            LongVector cell = LongVector.zero(LONGS);
+            LongVector overflow = LongVector.zero(LONGS);
+            for (int block = 0; block < shifts.length; block++) {
+                // Negative values are sign extended, so they overflow as well
+                LongVector packed = ((LongVector) IntVector.fromArray(INTS, values, index + block * lanes)
+                        .convertShape(VectorOperators.I2L, LONGS, 0)).and(valid[block]);
+                overflow = overflow.or(packed.lanewise(VectorOperators.LSHR, bitsPerEntry));
+                cell = cell.or(packed.lanewise(VectorOperators.LSHL, shifts[block]));
+            }
+            if (overflow.compare(VectorOperators.NE, 0L).anyTrue()) {
+                throw illegalValue(values, index, valuesPerLong, maxValue);
+            }
+            data[cellIndex] = cell.reduceLanes(VectorOperators.OR);
+        }
+        for (; cellIndex < data.length; cellIndex++) {
+            long cell = 0L;
+            for (int i = 0; i < valuesPerLong && index < size; i++, index++) {
+                int value = values[index];
+                if (value < 0 || value > maxValue) {
+                    throw illegalValue(value, maxValue);
+                }
+                cell |= (long) value << i * bitsPerEntry;
+            }
+            data[cellIndex] = cell;
+        }
+    }
+
+    private static IllegalStateException illegalValue(int[] values, int index, int count, long maxValue) {
+        for (int i = index; i < index + count; i++) {
+            if (values[i] < 0 || values[i] > maxValue) {
+                return illegalValue(values[i], maxValue);
+            }
+        }
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.protocol.world.chunk.storage.BitPacker;
+import com.github.retrooper.packetevents.protocol.world.chunk.storage.BitStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class BitStorageTest {
+
+    private static final int[] SIZES = {4096, 64, 100, 1};
+
+    @Test
+    @DisplayName("Test unpacking and packing whole storages")
+    public void testPackParity() {
+        Random random = new Random(0L);
+        for (int bitsPerEntry = 1; bitsPerEntry <= 32; bitsPerEntry++) {
+            long maxValue = (1L << bitsPerEntry) - 1L;
+            for (int size : SIZES) {
+                int[] values = new int[size];
+                BitStorage scalar = new BitStorage(bitsPerEntry, size);
+                for (int i = 0; i < size; i++) {
+                    values[i] = (int) (random.nextLong() & maxValue & Integer.MAX_VALUE);
+                    scalar.set(i, values[i]);
+                }
+
+                int[] unpacked = new int[size];
+                scalar.unpack(unpacked);
+                assertArrayEquals(values, unpacked);
+
+                BitStorage packed = new BitStorage(bitsPerEntry, size);
+                packed.pack(values);
+                assertArrayEquals(scalar.getData(), packed.getData());
+                for (int i = 0; i < size; i++) {
+                    assertEquals(values[i], packed.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test the vectorized packer against the scalar packer")
+    public void testVectorPackParity() {
+        BitPacker vector = BitPacker.vector();
+        assumeTrue(vector != null, "The Vector API is not available");
+        BitPacker scalar = BitPacker.scalar();
+        Random random = new Random(0L);
+        for (int bitsPerEntry = 1; bitsPerEntry <= 32; bitsPerEntry++) {
+            int valuesPerLong = 64 / bitsPerEntry;
+            long maxValue = (1L << bitsPerEntry) - 1L;
+            for (int size : SIZES) {
+                int[] values = new int[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (int) (random.nextLong() & maxValue & Integer.MAX_VALUE);
+                }
+                long[] expected = new long[(size + valuesPerLong - 1) / valuesPerLong];
+                long[] packed = new long[expected.length];
+                scalar.pack(values, bitsPerEntry, size, expected);
+                vector.pack(values, bitsPerEntry, size, packed);
+                assertArrayEquals(expected, packed);
+
+                int[] unpacked = new int[size];
+                vector.unpack(expected, bitsPerEntry, size, unpacked);
+                assertArrayEquals(values, unpacked);
+
+                // Illegal values are rejected like they are by the scalar packer
+                values[size - 1] = -1;
+                int bits = bitsPerEntry;
+                IllegalStateException scalarException = assertThrows(IllegalStateException.class,
+                        () -> scalar.pack(values, bits, size, expected));
+                IllegalStateException vectorException = assertThrows(IllegalStateException.class,
+                        () -> vector.pack(values, bits, size, packed));
+                assertEquals(scalarException.getMessage(), vectorException.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.protocol.nbt.NBTInt;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
+import com.github.retrooper.packetevents.protocol.world.chunk.ChunkDataCache;
+import com.github.retrooper.packetevents.protocol.world.chunk.Column;
+import com.github.retrooper.packetevents.protocol.world.chunk.TileEntity;
+import com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18.Chunk_v1_18;
+import com.github.retrooper.packetevents.protocol.world.dimension.DimensionTypes;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChunkDataCacheTest extends BaseDummyAPITest {
+
+    private static Column createColumn() {
+        Chunk_v1_18 section = new Chunk_v1_18();
+        section.set(1, 2, 3, 10);
+        NBTCompound data = new NBTCompound();
+        data.setTag("value", new NBTInt(1));
+        TileEntity tileEntity = new TileEntity((byte) 0, (short) 0, 0, data);
+        return new Column(2, 3, true, new BaseChunk[]{section, new Chunk_v1_18()},
+                new TileEntity[]{tileEntity}, new NBTCompound());
+    }
+
+    private static ChunkDataCache.Result get(ByteBuf buffer, ClientVersion version) {
+        int index = buffer.readerIndex();
+        int length = buffer.readableBytes();
+        return ChunkDataCache.get(DimensionTypes.OVERWORLD, version, buffer, index, length,
+                ChunkDataCache.hash(buffer, index, length));
+    }
+
+    @Test
+    @DisplayName("Test copied columns not sharing any data")
+    public void testColumnCopy() {
+        Column column = createColumn();
+        Column copy = column.copy();
+        assertNotSame(column.getChunks(), copy.getChunks());
+        assertEquals(10, copy.getChunks()[0].getBlockId(1, 2, 3));
+
+        copy.getChunks()[0].set(1, 2, 3, 20);
+        copy.getTileEntities()[0].getNBT().setTag("value", new NBTInt(2));
+        assertEquals(10, column.getChunks()[0].getBlockId(1, 2, 3));
+        assertEquals(1, column.getTileEntities()[0].getNBT().getNumberTagOrNull("value").getAsInt());
+    }
+
+    @Test
+    @DisplayName("Test cached chunk data being matched by its payload")
+    public void testCache() {
+        byte[] payload = {0, 0, 0, 2, 0, 0, 0, 3, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        // Same chunk and length, different data
+        byte[] other = payload.clone();
+        other[other.length - 1] = 10;
+        ChunkDataCache.Result result = new ChunkDataCache.Result(createColumn(), null, false, payload, false);
+
+        ByteBuf buffer = Unpooled.wrappedBuffer(payload);
+        ByteBuf otherBuffer = Unpooled.wrappedBuffer(other);
+        try {
+            ChunkDataCache.put(DimensionTypes.OVERWORLD, ClientVersion.V_1_21, payload.clone(),
+                    ChunkDataCache.hash(buffer, 0, payload.length), result, 16);
+            assertNotNull(get(buffer, ClientVersion.V_1_21));
+            assertNull(get(buffer, ClientVersion.V_1_20));
+            assertNull(get(otherBuffer, ClientVersion.V_1_21));
+
+            // Cached columns are only handed out as copies
+            Column column = get(buffer, ClientVersion.V_1_21).copyColumn();
+            column.getChunks()[0].set(1, 2, 3, 20);
+            assertEquals(10, get(buffer, ClientVersion.V_1_21).copyColumn().getChunks()[0].getBlockId(1, 2, 3));
+
+            ChunkDataCache.invalidate(DimensionTypes.OVERWORLD, 2, 3);
+            assertNull(get(buffer, ClientVersion.V_1_21));
+        } finally {
+            ChunkDataCache.invalidateAll();
+            buffer.release();
+            otherBuffer.release();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.stream.NetStreamOutput;
+import com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18.Chunk_v1_18;
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.DataPalette;
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.GlobalPalette;
+import com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState;
+import com.github.retrooper.packetevents.protocol.world.states.type.StateType;
+import com.github.retrooper.packetevents.protocol.world.states.type.StateTypes;
+import com.github.retrooper.packetevents.settings.PacketEventsSettings;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkSectionTest extends BaseDummyAPITest {
+
+    private static byte[] encode(Chunk_v1_18 section) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Chunk_v1_18.write(new NetStreamOutput(bytes), section);
+        return bytes.toByteArray();
+    }
+
+    private static Chunk_v1_18 createSection() {
+        Chunk_v1_18 section = new Chunk_v1_18();
+        for (int i = 0; i < 4096; i += 7) {
+            section.set(i & 15, i >> 8, i >> 4 & 15, 1 + i % 40);
+        }
+        return section;
+    }
+
+    @Test
+    @DisplayName("Test lazily read chunk sections")
+    public void testLazySection() {
+        Chunk_v1_18 section = createSection();
+        byte[] encoded = encode(section);
+
+        // Trailing bytes must not be consumed by the section
+        ByteBuf buffer = Unpooled.buffer().writeBytes(encoded).writeZero(3);
+        PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(buffer);
+        Chunk_v1_18 lazy = Chunk_v1_18.readLazily(wrapper);
+        assertEquals(encoded.length, buffer.readerIndex());
+        assertFalse(lazy.isDecoded());
+
+        // Untouched sections are written back verbatim
+        assertArrayEquals(encoded, encode(lazy));
+        assertFalse(lazy.isDecoded());
+
+        assertEquals(section.getBlockCount(), lazy.getBlockCount());
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    assertEquals(section.getBlockId(x, y, z), lazy.getBlockId(x, y, z));
+                }
+            }
+        }
+        assertTrue(lazy.isDecoded());
+
+        lazy.set(3, 4, 5, 100);
+        section.set(3, 4, 5, 100);
+        assertArrayEquals(encode(section), encode(lazy));
+        buffer.release();
+    }
+
+    @Test
+    @DisplayName("Test writing chunk sections into a buffer")
+    public void testDirectWrite() {
+        Chunk_v1_18 section = createSection();
+        byte[] encoded = encode(section);
+        assertEquals(encoded.length, Chunk_v1_18.getSerializedSize(section));
+        assertEquals(encode(new Chunk_v1_18()).length, Chunk_v1_18.getSerializedSize(new Chunk_v1_18()));
+
+        ByteBuf buffer = Unpooled.buffer();
+        Chunk_v1_18.write(PacketWrapper.createUniversalPacketWrapper(buffer), section);
+        byte[] written = new byte[buffer.readableBytes()];
+        buffer.readBytes(written);
+        assertArrayEquals(encoded, written);
+        buffer.release();
+    }
+
+    @Test
+    @DisplayName("Test bulk palette operations")
+    public void testBulkOperations() {
+        DataPalette palette = createSection().getChunkData();
+        int[] states = new int[4096];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = palette.get(i & 15, i >> 8, i >> 4 & 15);
+        }
+
+        int[] index = {0};
+        palette.forEach(state -> assertEquals(states[index[0]++], state));
+        assertEquals(states.length, index[0]);
+
+        int expected = 0;
+        for (int state : states) {
+            if (state % 2 == 0) {
+                expected++;
+            }
+        }
+        assertEquals(expected, palette.countMatching(state -> state % 2 == 0));
+
+        palette.replaceAll(state -> state == 0 ? 0 : state + 1000);
+        for (int i = 0; i < states.length; i++) {
+            int state = states[i];
+            assertEquals(state == 0 ? 0 : state + 1000, palette.get(i & 15, i >> 8, i >> 4 & 15));
+        }
+
+        palette.fill(7);
+        assertEquals(states.length, palette.countMatching(state -> state == 7));
+    }
+
+    @Test
+    @DisplayName("Test palette compaction")
+    public void testCompaction() {
+        Chunk_v1_18 section = createSection();
+        DataPalette palette = section.getChunkData();
+        // Only keep two of the states, leaving the other palette entries unused
+        palette.replaceAll(state -> state % 2 == 0 ? 0 : 1);
+        int[] states = new int[4096];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = palette.get(i & 15, i >> 8, i >> 4 & 15);
+        }
+        int size = Chunk_v1_18.getSerializedSize(section);
+
+        palette.compact();
+        assertTrue(Chunk_v1_18.getSerializedSize(section) < size);
+        assertEquals(2, palette.palette.size());
+        for (int i = 0; i < states.length; i++) {
+            assertEquals(states[i], palette.get(i & 15, i >> 8, i >> 4 & 15));
+        }
+
+        palette.fill(5);
+        palette.compact();
+        assertEquals(1 + 1 + 1, DataPalette.getSerializedSize(palette));
+        assertEquals(5, palette.get(1, 2, 3));
+    }
+
+    @Test
+    @DisplayName("Test remapping palette states")
+    public void testRemap() {
+        DataPalette palette = createSection().getChunkData();
+        int[] states = new int[4096];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = palette.get(i & 15, i >> 8, i >> 4 & 15);
+        }
+
+        int[] table = new int[30];
+        for (int state = 0; state < table.length; state++) {
+            table[state] = state * 2;
+        }
+        palette.remap(table, DataPalette.GLOBAL_PALETTE_BITS_PER_ENTRY);
+        for (int i = 0; i < states.length; i++) {
+            int state = states[i];
+            assertEquals(state < table.length ? state * 2 : 0, palette.get(i & 15, i >> 8, i >> 4 & 15));
+        }
+    }
+
+    @Test
+    @DisplayName("Test remapping global palettes to the width of the target version")
+    public void testRemapGlobalPalette() {
+        DataPalette palette = DataPalette.createForChunk();
+        // More distinct states than fit into a map palette
+        for (int i = 0; i < 4096; i++) {
+            palette.set(i & 15, i >> 8, i >> 4 & 15, i % 1000);
+        }
+        assertTrue(palette.palette instanceof GlobalPalette);
+
+        int[] table = new int[1000];
+        for (int state = 0; state < table.length; state++) {
+            table[state] = state + 40000;
+        }
+        palette.remap(table, 16);
+        assertEquals(16, palette.storage.getBitsPerEntry());
+        for (int i = 0; i < 4096; i++) {
+            assertEquals(i % 1000 + 40000, palette.get(i & 15, i >> 8, i >> 4 & 15));
+        }
+
+        palette.remap(new int[0], 15);
+        assertEquals(15, palette.storage.getBitsPerEntry());
+        assertEquals(4096, palette.countMatching(state -> state == 0));
+    }
+
+    @Test
+    @DisplayName("Test block state remap tables")
+    public void testRemapTable() {
+        int[] identity = WrappedBlockState.getRemapTable(ClientVersion.V_1_21, ClientVersion.V_1_21);
+        for (int id = 0; id < identity.length; id++) {
+            assertEquals(id, identity[id]);
+        }
+        assertSame(identity, WrappedBlockState.getRemapTable(ClientVersion.V_1_21, ClientVersion.V_1_21));
+
+        int[] table = WrappedBlockState.getRemapTable(ClientVersion.V_1_18, ClientVersion.V_1_21);
+        assertEquals(0, table[0]);
+        for (StateType type : new StateType[]{StateTypes.STONE, StateTypes.GRASS_BLOCK, StateTypes.OAK_STAIRS, StateTypes.TINTED_GLASS}) {
+            int from = WrappedBlockState.getDefaultState(ClientVersion.V_1_18, type).getGlobalId();
+            int to = WrappedBlockState.getDefaultState(ClientVersion.V_1_21, type).getGlobalId();
+            assertEquals(to, table[from], type.getName());
+        }
+
+        int bits = WrappedBlockState.getGlobalPaletteBits(ClientVersion.V_1_21);
+        assertEquals(DataPalette.GLOBAL_PALETTE_BITS_PER_ENTRY, bits);
+        // Legacy clients read a fixed width, wider than the highest combined id needs
+        assertEquals(13, WrappedBlockState.getGlobalPaletteBits(ClientVersion.V_1_12_2));
+        for (int id : table) {
+            assertTrue(id < 1 << bits);
+        }
+    }
+
+    private static byte[] write(Chunk_v1_18 section) {
+        ByteBuf buffer = Unpooled.buffer();
+        Chunk_v1_18.write(PacketWrapper.createUniversalPacketWrapper(buffer), section);
+        byte[] written = new byte[buffer.readableBytes()];
+        buffer.readBytes(written);
+        buffer.release();
+        return written;
+    }
+
+    @Test
+    @DisplayName("Test the chunk section cache")
+    public void testSectionCache() {
+        PacketEventsSettings settings = PacketEvents.getAPI().getSettings();
+        Chunk_v1_18 section = createSection();
+        Chunk_v1_18 air = new Chunk_v1_18();
+        byte[] encoded = write(section);
+        byte[] encodedAir = write(air);
+
+        settings.chunkSectionCacheSize(16);
+        try {
+            // Missing and hitting the cache must both write the same bytes as without the cache
+            assertArrayEquals(encoded, write(section));
+            assertArrayEquals(encoded, write(section));
+            assertArrayEquals(encoded, write(createSection()));
+            assertArrayEquals(encodedAir, write(air));
+            assertArrayEquals(encodedAir, write(air));
+
+            // Cached sections must not change along with the section they were encoded from
+            section.set(1, 2, 3, 100);
+            byte[] modified = write(section);
+            assertFalse(Arrays.equals(encoded, modified));
+            settings.chunkSectionCacheSize(0);
+            assertArrayEquals(modified, write(section));
+        } finally {
+            settings.chunkSectionCacheSize(0);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.settings.PacketEventsSettings;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ComponentCacheTest extends BaseDummyAPITest {
+
+    private static byte[] write(Component component, ServerVersion version, boolean json) {
+        ByteBuf buffer = Unpooled.buffer();
+        PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(buffer);
+        wrapper.setServerVersion(version);
+        if (json) {
+            wrapper.writeComponentAsJSON(component);
+        } else {
+            wrapper.writeComponentAsNBT(component);
+        }
+        byte[] written = new byte[buffer.readableBytes()];
+        buffer.readBytes(written);
+        buffer.release();
+        return written;
+    }
+
+    @Test
+    @DisplayName("Test cached components being written like uncached ones")
+    public void testCacheParity() {
+        Component styled = Component.text("Line", NamedTextColor.GOLD)
+                .decorate(TextDecoration.BOLD)
+                .clickEvent(ClickEvent.runCommand("/spawn"))
+                .append(Component.translatable("block.minecraft.stone"));
+        // Longer than the legacy message length, so it is cut off differently per version
+        char[] chars = new char[40000];
+        Arrays.fill(chars, 'a');
+        Component large = Component.text(new String(chars));
+
+        Component[] components = {styled, large};
+        ServerVersion[] jsonVersions = {ServerVersion.V_1_12_2, ServerVersion.V_1_13};
+        byte[][] expectedJson = new byte[components.length * jsonVersions.length][];
+        byte[][] expectedNbt = new byte[components.length][];
+        for (int i = 0; i < components.length; i++) {
+            for (int j = 0; j < jsonVersions.length; j++) {
+                expectedJson[i * jsonVersions.length + j] = write(components[i], jsonVersions[j], true);
+            }
+            expectedNbt[i] = write(components[i], ServerVersion.V_1_20_5, false);
+        }
+        assertFalse(Arrays.equals(expectedJson[2], expectedJson[3]));
+
+        PacketEventsSettings settings = PacketEvents.getAPI().getSettings();
+        settings.componentCacheSize(64);
+        try {
+            // Written twice, to compare both a cache miss and a cache hit
+            for (int round = 0; round < 2; round++) {
+                for (int i = 0; i < components.length; i++) {
+                    for (int j = 0; j < jsonVersions.length; j++) {
+                        assertArrayEquals(expectedJson[i * jsonVersions.length + j],
+                                write(components[i], jsonVersions[j], true));
+                    }
+                    assertArrayEquals(expectedNbt[i], write(components[i], ServerVersion.V_1_20_5, false));
+                }
+            }
+        } finally {
+            settings.componentCacheSize(0);
+        }
+    }
+}
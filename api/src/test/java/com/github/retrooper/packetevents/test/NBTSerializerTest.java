@@ -0,0 +1,187 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.protocol.nbt.*;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.ByteBufNBTSerializer;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.DefaultNBTSerializer;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.util.adventure.AdventureNBTSerializer;
+import com.github.retrooper.packetevents.util.adventure.AdventureNBTStreamSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NBTSerializerTest extends BaseDummyAPITest {
+
+    private static NBTCompound createCompound() {
+        NBTCompound compound = new NBTCompound();
+        compound.setTag("byte", new NBTByte((byte) -3));
+        compound.setTag("short", new NBTShort((short) 1234));
+        compound.setTag("int", new NBTInt(-123456));
+        compound.setTag("long", new NBTLong(Long.MIN_VALUE));
+        compound.setTag("float", new NBTFloat(1.5F));
+        compound.setTag("double", new NBTDouble(-0.25D));
+        compound.setTag("bytes", new NBTByteArray(new byte[]{1, 2, 3}));
+        compound.setTag("ints", new NBTIntArray(new int[]{-1, 0, 1}));
+        compound.setTag("longs", new NBTLongArray(new long[]{Long.MAX_VALUE, 0L}));
+        // Characters taking up one, two and three bytes, as well as the null character
+        compound.setTag("string", new NBTString("plain \u00e4 \u20ac \0 \ud83d\ude00"));
+        NBTList<NBTString> list = new NBTList<>(NBTType.STRING);
+        list.addTag(new NBTString("first"));
+        list.addTag(new NBTString("second"));
+        compound.setTag("list", list);
+        NBTCompound nested = new NBTCompound();
+        nested.setTag("\u00fcnicode key", new NBTInt(1));
+        compound.setTag("nested", nested);
+        return compound;
+    }
+
+    @Test
+    @DisplayName("Test reading and writing NBT straight from buffers")
+    public void testByteBufSerializer() throws IOException {
+        NBTCompound compound = createCompound();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        DefaultNBTSerializer.INSTANCE.serializeTag(new DataOutputStream(expected), compound, true);
+
+        ByteBuf buffer = Unpooled.buffer();
+        ByteBufNBTSerializer.INSTANCE.serializeTag(buffer, compound, true);
+        byte[] written = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), written);
+        assertArrayEquals(expected.toByteArray(), written);
+
+        NBT read = ByteBufNBTSerializer.INSTANCE.deserializeTag(NBTLimiter.noop(), buffer, true);
+        assertFalse(buffer.isReadable());
+        assertEquals(compound, read);
+        buffer.release();
+    }
+
+    @Test
+    @DisplayName("Test lazily read compounds")
+    public void testLazyCompound() throws IOException {
+        NBTCompound compound = createCompound();
+        ByteBuf buffer = Unpooled.buffer();
+        ByteBufNBTSerializer.INSTANCE.serializeTag(buffer, compound, true);
+        byte[] encoded = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), encoded);
+
+        // Trailing bytes must not be consumed by the compound
+        buffer.writeByte(42);
+        NBT read = ByteBufNBTSerializer.INSTANCE.deserializeTagLazily(NBTLimiter.noop(), buffer, true);
+        assertEquals(1, buffer.readableBytes());
+        LazyNBTCompound lazy = assertInstanceOf(LazyNBTCompound.class, read);
+        assertFalse(lazy.isParsed());
+
+        // Untouched compounds are written back verbatim
+        ByteBuf written = Unpooled.buffer();
+        ByteBufNBTSerializer.INSTANCE.serializeTag(written, lazy, true);
+        byte[] writtenBytes = new byte[written.readableBytes()];
+        written.getBytes(written.readerIndex(), writtenBytes);
+        assertArrayEquals(encoded, writtenBytes);
+        assertFalse(lazy.isParsed());
+
+        assertEquals(compound, lazy);
+        assertTrue(lazy.isParsed());
+        lazy.setTag("int", new NBTInt(7));
+        assertEquals(7, lazy.getNumberTagOrThrow("int").getAsInt());
+        buffer.release();
+        written.release();
+    }
+
+    @Test
+    @DisplayName("Test compound storage and pooled tag names")
+    public void testCompoundStorage() throws IOException {
+        NBTCompound compound = new NBTCompound();
+        List<String> names = new ArrayList<>();
+        // Grows beyond the compact storage, which must keep the insertion order
+        for (int i = 0; i < 12; i++) {
+            names.add("tag" + i);
+            compound.setTag("tag" + i, new NBTInt(i));
+        }
+        compound.removeTag("tag3");
+        names.remove("tag3");
+        compound.setTag("tag5", new NBTInt(-5));
+        assertEquals(names, new ArrayList<>(compound.getTagNames()));
+        assertEquals(-5, compound.getNumberTagOrThrow("tag5").getAsInt());
+
+        ByteBuf buffer = Unpooled.buffer();
+        ByteBufNBTSerializer.INSTANCE.serializeTag(buffer, compound, true);
+        ByteBufNBTSerializer.INSTANCE.serializeTag(buffer, compound, true);
+        NBTCompound first = (NBTCompound) ByteBufNBTSerializer.INSTANCE.deserializeTag(NBTLimiter.noop(), buffer, true);
+        NBTCompound second = (NBTCompound) ByteBufNBTSerializer.INSTANCE.deserializeTag(NBTLimiter.noop(), buffer, true);
+        assertEquals(compound, first);
+        assertEquals(compound, second);
+        List<String> firstNames = new ArrayList<>(first.getTagNames());
+        List<String> secondNames = new ArrayList<>(second.getTagNames());
+        for (int i = 0; i < firstNames.size(); i++) {
+            assertSame(firstNames.get(i), secondNames.get(i));
+        }
+        buffer.release();
+    }
+
+    @Test
+    @DisplayName("Test streaming components without nbt trees")
+    public void testComponentStreamSerializer() throws IOException {
+        AdventureNBTSerializer treeSerializer = new AdventureNBTSerializer(false);
+        AdventureNBTStreamSerializer streamSerializer = new AdventureNBTStreamSerializer(treeSerializer);
+        Component[] components = {
+                Component.text("plain"),
+                Component.text("styled", TextColor.color(0x123456), TextDecoration.BOLD)
+                        .decoration(TextDecoration.ITALIC, false)
+                        .clickEvent(ClickEvent.runCommand("/help"))
+                        .hoverEvent(HoverEvent.showText(Component.text("hover", NamedTextColor.RED)))
+                        .append(Component.text("child"), Component.keybind("key.jump")),
+                Component.translatable("chat.type.text", Component.text("name"), Component.text("message"))
+                        .color(NamedTextColor.GRAY)
+                        .insertion("insert"),
+        };
+        for (Component component : components) {
+            ByteBuf expected = Unpooled.buffer();
+            ByteBufNBTSerializer.INSTANCE.serializeTag(expected, treeSerializer.serialize(component), false);
+            ByteBuf written = Unpooled.buffer();
+            streamSerializer.writeComponent(written, component);
+            assertEquals(expected, written);
+
+            assertEquals(component, streamSerializer.readComponent(NBTLimiter.noop(), written));
+            assertFalse(written.isReadable());
+            expected.release();
+            written.release();
+        }
+    }
+}
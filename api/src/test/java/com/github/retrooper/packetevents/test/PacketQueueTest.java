@@ -0,0 +1,81 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.protocol.player.UserProfile;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PacketQueueTest extends BaseDummyAPITest {
+
+    private static ByteBuf packet(int id) {
+        return Unpooled.buffer().writeByte(id);
+    }
+
+    private static void assertOutbound(EmbeddedChannel channel, int... ids) {
+        for (int id : ids) {
+            ByteBuf buffer = channel.readOutbound();
+            assertEquals(id, buffer.readByte());
+            buffer.release();
+        }
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    @DisplayName("Test packets sent from the event loop not overtaking queued packets")
+    public void testSendOrder() {
+        // The test thread counts as the event loop of an embedded channel
+        EmbeddedChannel channel = new EmbeddedChannel();
+        assertTrue(channel.eventLoop().inEventLoop());
+        User user = new User(channel, ConnectionState.PLAY, ClientVersion.getLatest(),
+                new UserProfile(UUID.randomUUID(), "Test"));
+        try {
+            user.queuePacket(packet(1));
+            user.queuePacket(packet(2));
+            user.sendPacket(packet(3));
+            channel.runPendingTasks();
+            assertOutbound(channel, 1, 2, 3);
+
+            user.queuePacket(packet(4));
+            user.writePacket(packet(5));
+            user.queuePacket(packet(6));
+            user.sendPacket(packet(7));
+            // The drain scheduled for the queue has nothing left to write
+            PacketEvents.getAPI().getProtocolManager().drainPacketQueues();
+            channel.runPendingTasks();
+            assertOutbound(channel, 4, 5, 6, 7);
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+}
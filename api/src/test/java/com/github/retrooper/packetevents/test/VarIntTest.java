@@ -0,0 +1,70 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2024 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VarIntTest extends BaseDummyAPITest {
+
+    private static final int[] INTS = {0, 1, 127, 128, 255, 16383, 16384, 2097151, 2097152,
+            268435455, 268435456, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+    private static final long[] LONGS = {0L, 1L, 127L, 128L, 16384L, Integer.MAX_VALUE, 1L << 49,
+            (1L << 56) - 1L, 1L << 56, 1L << 62, Long.MAX_VALUE, -1L, Long.MIN_VALUE};
+
+    @Test
+    @DisplayName("Test VarInt decoding")
+    public void testVarInt() {
+        for (int value : INTS) {
+            // Trailing bytes cover both the bulk and the byte-by-byte decoding
+            for (int trailing = 0; trailing <= 5; trailing++) {
+                ByteBuf buffer = Unpooled.buffer();
+                ByteBufHelper.writeVarInt(buffer, value);
+                int length = buffer.readableBytes();
+                buffer.writeZero(trailing);
+                assertEquals(value, ByteBufHelper.readVarInt(buffer));
+                assertEquals(length, buffer.readerIndex());
+                buffer.release();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test VarLong decoding")
+    public void testVarLong() {
+        for (long value : LONGS) {
+            // Trailing bytes cover both the bulk and the byte-by-byte decoding
+            for (int trailing = 0; trailing <= 10; trailing++) {
+                ByteBuf buffer = Unpooled.buffer();
+                ByteBufHelper.writeVarLong(buffer, value);
+                int length = buffer.readableBytes();
+                buffer.writeZero(trailing);
+                assertEquals(value, ByteBufHelper.readVarLong(buffer));
+                assertEquals(length, buffer.readerIndex());
+                buffer.release();
+            }
+        }
+    }
+}
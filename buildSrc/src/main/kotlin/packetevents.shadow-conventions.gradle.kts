@@ -26,6 +26,11 @@ tasks {
         }
 
         mergeServiceFiles()
+
+        // Keeps classes in META-INF/versions of shaded multi-release jars loadable
+        manifest {
+            attributes["Multi-Release"] = "true"
+        }
     }
 
     create<ShadowJar>("shadowNoAdventure") {
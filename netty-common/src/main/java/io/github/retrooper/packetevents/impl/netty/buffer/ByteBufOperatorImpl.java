@@ -20,6 +20,7 @@ package io.github.retrooper.packetevents.impl.netty.buffer;
 
 import com.github.retrooper.packetevents.netty.buffer.ByteBufOperator;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 
 import java.nio.charset.Charset;
 
@@ -134,6 +135,16 @@ public class ByteBufOperatorImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).getUnsignedByte(index);
     }
 
+    @Override
+    public int getInt(Object buffer, int index) {
+        return ((ByteBuf)buffer).getInt(index);
+    }
+
+    @Override
+    public long getLong(Object buffer, int index) {
+        return ((ByteBuf)buffer).getLong(index);
+    }
+
     @Override
     public boolean isReadable(Object buffer) {
         return ((ByteBuf)buffer).isReadable();
@@ -224,6 +235,11 @@ public class ByteBufOperatorImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).toString(index, length, charset);
     }
 
+    @Override
+    public int writeUtf8(Object buffer, CharSequence sequence) {
+        return ByteBufUtil.writeUtf8((ByteBuf)buffer, sequence);
+    }
+
     @Override
     public Object markReaderIndex(Object buffer) {
         return ((ByteBuf)buffer).markReaderIndex();
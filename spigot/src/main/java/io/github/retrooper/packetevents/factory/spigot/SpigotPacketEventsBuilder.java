@@ -40,6 +40,7 @@ import io.github.retrooper.packetevents.manager.server.ServerManagerImpl;
 import io.github.retrooper.packetevents.netty.NettyManagerImpl;
 import io.github.retrooper.packetevents.util.BukkitLogManager;
 import io.github.retrooper.packetevents.util.folia.FoliaScheduler;
+import io.github.retrooper.packetevents.util.folia.TaskWrapper;
 import io.github.retrooper.packetevents.util.SpigotReflectionUtil;
 import io.github.retrooper.packetevents.util.protocolsupport.ProtocolSupportUtil;
 import io.github.retrooper.packetevents.util.viaversion.CustomPipelineUtil;
@@ -48,6 +49,10 @@ import org.bstats.bukkit.Metrics;
 import org.bstats.charts.SimplePie;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
 
 public class SpigotPacketEventsBuilder {
@@ -88,6 +93,8 @@ public class SpigotPacketEventsBuilder {
             private boolean initialized;
             private boolean lateBind = false;
             private boolean terminated = false;
+            private TaskWrapper packetQueueTask;
+            private Listener packetQueueListener;
 
             @Override
             public void load() {
@@ -145,6 +152,7 @@ public class SpigotPacketEventsBuilder {
                     //Just to have an idea of which versions of packetevents people use
                     metrics.addCustomChart(new SimplePie("packetevents_version", () -> getVersion().toStringWithoutSnapshot()));
                     Bukkit.getPluginManager().registerEvents(new InternalBukkitListener(plugin), plugin);
+                    registerPacketQueueDrain();
 
                     if (lateBind) {
                         //If late-bind is enabled, we still need to inject (after all plugins enabled).
@@ -172,6 +180,27 @@ public class SpigotPacketEventsBuilder {
                 }
             }
 
+            @SuppressWarnings("unchecked")
+            private void registerPacketQueueDrain() {
+                //Drain the queued packets of all users at the end of every tick.
+                //Folia has no global tick, and Spigot has no tick end event,
+                //there we fall back to a task at the start of the next tick.
+                if (!FoliaScheduler.isFolia()) {
+                    try {
+                        Class<? extends Event> tickEndEventClass = (Class<? extends Event>)
+                                Class.forName("com.destroystokyo.paper.event.server.ServerTickEndEvent");
+                        packetQueueListener = new Listener() {
+                        };
+                        Bukkit.getPluginManager().registerEvent(tickEndEventClass, packetQueueListener, EventPriority.MONITOR,
+                                (listener, event) -> protocolManager.drainPacketQueues(), plugin);
+                        return;
+                    } catch (ClassNotFoundException ignored) {
+                    }
+                }
+                packetQueueTask = FoliaScheduler.getGlobalRegionScheduler().runAtFixedRate(plugin,
+                        o -> protocolManager.drainPacketQueues(), 1, 1);
+            }
+
             private void checkCompatibility() {
                 // PacketEvents is now enabled, we can now check
                 ViaVersionUtil.checkIfViaIsPresent();
@@ -216,6 +245,15 @@ public class SpigotPacketEventsBuilder {
                 if (initialized) {
                     //Uninject the injector if needed(depends on the injector implementation)
                     injector.uninject();
+                    if (packetQueueListener != null) {
+                        HandlerList.unregisterAll(packetQueueListener);
+                        packetQueueListener = null;
+                    }
+                    if (packetQueueTask != null) {
+                        packetQueueTask.cancel();
+                        packetQueueTask = null;
+                    }
+                    protocolManager.drainPacketQueues();
                     for (User user : ProtocolManager.USERS.values()) {
                         ServerConnectionInitializer.destroyHandlers(user.getChannel());
                     }
@@ -20,10 +20,14 @@ package io.github.retrooper.packetevents.netty.buffer;
 
 import com.github.retrooper.packetevents.netty.buffer.ByteBufOperator;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 
 import java.nio.charset.Charset;
 
 public class ByteBufOperatorModernImpl implements ByteBufOperator {
+    //The netty version of legacy servers doesn't have ByteBufUtil#writeUtf8
+    private static final boolean UTF8_WRITER_AVAILABLE = isUtf8WriterAvailable();
+
     @Override
     public int capacity(Object buffer) {
         return ((ByteBuf)buffer).capacity();
@@ -136,6 +140,16 @@ public class ByteBufOperatorModernImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).getUnsignedByte(index);
     }
 
+    @Override
+    public int getInt(Object buffer, int index) {
+        return ((ByteBuf)buffer).getInt(index);
+    }
+
+    @Override
+    public long getLong(Object buffer, int index) {
+        return ((ByteBuf)buffer).getLong(index);
+    }
+
     @Override
     public boolean isReadable(Object buffer) {
         return ((ByteBuf)buffer).isReadable();
@@ -226,6 +240,14 @@ public class ByteBufOperatorModernImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).toString(index, length, charset);
     }
 
+    @Override
+    public int writeUtf8(Object buffer, CharSequence sequence) {
+        if (UTF8_WRITER_AVAILABLE) {
+            return ByteBufUtil.writeUtf8((ByteBuf)buffer, sequence);
+        }
+        return ByteBufOperator.super.writeUtf8(buffer, sequence);
+    }
+
     @Override
     public Object markReaderIndex(Object buffer) {
         return ((ByteBuf)buffer).markReaderIndex();
@@ -245,4 +267,13 @@ public class ByteBufOperatorModernImpl implements ByteBufOperator {
     public Object resetWriterIndex(Object buffer) {
         return ((ByteBuf)buffer).resetWriterIndex();
     }
+
+    private static boolean isUtf8WriterAvailable() {
+        try {
+            ByteBufUtil.class.getMethod("writeUtf8", ByteBuf.class, CharSequence.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
 }
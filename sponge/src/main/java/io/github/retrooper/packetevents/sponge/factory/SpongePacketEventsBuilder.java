@@ -42,7 +42,9 @@ import io.github.retrooper.packetevents.sponge.util.SpongeLogManager;
 import io.github.retrooper.packetevents.sponge.util.SpongeReflectionUtil;
 import io.github.retrooper.packetevents.sponge.util.viaversion.ViaVersionUtil;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.plugin.PluginContainer;
 
 public class SpongePacketEventsBuilder {
@@ -84,6 +86,7 @@ public class SpongePacketEventsBuilder {
             private boolean initialized;
             private boolean terminated;
             private boolean lateBind = false;
+            private ScheduledTask packetQueueTask;
 
             @Override
             public void load() {
@@ -135,6 +138,10 @@ public class SpongePacketEventsBuilder {
                 if (initialized) return;
 
                 Sponge.eventManager().registerListeners(plugin, new InternalSpongeListener());
+                // Drain the queued packets of all users once every tick
+                // The Sponge API has no tick end event, so packets queued during a tick go out at the start of the next one
+                packetQueueTask = Sponge.server().scheduler().submit(Task.builder().plugin(plugin)
+                        .interval(Ticks.of(1)).execute(protocolManager::drainPacketQueues).build());
 
                 if (lateBind) {
                     //If late-bind is enabled, we still need to inject (after all plugins enabled).
@@ -166,6 +173,11 @@ public class SpongePacketEventsBuilder {
                 if (initialized) {
                     // Uninject the injector if needed(depends on the injector implementation)
                     injector.uninject();
+                    if (packetQueueTask != null) {
+                        packetQueueTask.cancel();
+                        packetQueueTask = null;
+                    }
+                    protocolManager.drainPacketQueues();
                     for (User user : ProtocolManager.USERS.values()) {
                         ServerConnectionInitializer.destroyHandlers(user.getChannel());
                     }
@@ -20,6 +20,7 @@ package io.github.retrooper.packetevents.sponge.netty.buffer;
 
 import com.github.retrooper.packetevents.netty.buffer.ByteBufOperator;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 
 import java.nio.charset.Charset;
 
@@ -136,6 +137,16 @@ public class ByteBufOperatorModernImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).getUnsignedByte(index);
     }
 
+    @Override
+    public int getInt(Object buffer, int index) {
+        return ((ByteBuf)buffer).getInt(index);
+    }
+
+    @Override
+    public long getLong(Object buffer, int index) {
+        return ((ByteBuf)buffer).getLong(index);
+    }
+
     @Override
     public boolean isReadable(Object buffer) {
         return ((ByteBuf)buffer).isReadable();
@@ -226,6 +237,11 @@ public class ByteBufOperatorModernImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).toString(index, length, charset);
     }
 
+    @Override
+    public int writeUtf8(Object buffer, CharSequence sequence) {
+        return ByteBufUtil.writeUtf8((ByteBuf)buffer, sequence);
+    }
+
     @Override
     public Object markReaderIndex(Object buffer) {
         return ((ByteBuf)buffer).markReaderIndex();